@@ -0,0 +1,61 @@
+package com.example.security.benchmark;
+
+import com.example.security.entity.CustomerMember;
+import com.example.security.entity.Member;
+import com.example.security.entity.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CustomerMember 생성 비용 (Role → GrantedAuthority 변환 포함)
+ * 로그인할 때마다 실행된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthoritiesBenchmark {
+
+    @Param({"1", "3"})
+    public int roleCount;
+
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        String[] names = {"USER", "ADMIN", "MANAGER"};
+        Set<Role> roles = new HashSet<>();
+        for (int i = 0; i < roleCount; i++) {
+            Role role = new Role();
+            role.setId((long) i + 1);
+            role.setName(names[i]);
+            roles.add(role);
+        }
+        member = new Member();
+        member.setId(1L);
+        member.setUsername("user");
+        member.setPassword("$2a$10$abcdefghijklmnopqrstuu");
+        member.setName("김철수");
+        member.setRoles(roles);
+    }
+
+    @Benchmark
+    public CustomerMember toCustomerMember() {
+        return new CustomerMember(member);
+    }
+}
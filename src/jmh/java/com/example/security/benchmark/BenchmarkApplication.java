@@ -0,0 +1,71 @@
+package com.example.security.benchmark;
+
+import com.example.security.SecurityApplication;
+import com.example.security.dto.BookFileFormat;
+import com.example.security.entity.Member;
+import com.example.security.repository.MemberRepository;
+import com.example.security.service.BookImportService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 벤치마크용 애플리케이션 실행 도우미
+ *
+ * MySQL 대신 H2 메모리 DB로 애플리케이션을 띄운다.
+ * (DataInitializer가 기본 회원/권한/샘플 책을 생성)
+ */
+final class BenchmarkApplication {
+
+    private static final String[] TITLES = {
+            "자바의 정석", "스프링 부트 실전", "Clean Code", "Effective Java", "객체지향의 사실과 오해",
+            "Refactoring", "토비의 스프링", "Domain Driven Design", "HTTP 완벽 가이드", "Java Concurrency in Practice"
+    };
+    private static final String[] AUTHORS = {
+            "남궁성", "김영한", "Robert Martin", "Joshua Bloch", "조영호",
+            "Martin Fowler", "이일민", "Eric Evans", "데이빗 고울리", "Brian Goetz"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        String[] args = {
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--logging.level.root=WARN"
+        };
+        String[] all = Arrays.copyOf(args, args.length + extraArgs.length);
+        System.arraycopy(extraArgs, 0, all, args.length, extraArgs.length);
+        return SpringApplication.run(SecurityApplication.class, all);
+    }
+
+    /**
+     * 책 count권을 대량 등록 기능으로 생성 (등록자: admin)
+     */
+    static void seedBooks(ConfigurableApplicationContext context, int count) throws IOException {
+        Member admin = context.getBean(MemberRepository.class).findByUsername("admin").orElseThrow();
+        StringBuilder ndjson = new StringBuilder(count * 120);
+        for (int i = 0; i < count; i++) {
+            ndjson.append("{\"title\":\"").append(TITLES[i % TITLES.length]).append(' ').append(i)
+                    .append("\",\"author\":\"").append(AUTHORS[(i / 7) % AUTHORS.length])
+                    .append("\",\"price\":").append(10000 + (i % 50) * 1000)
+                    .append(",\"page\":").append(100 + i % 900)
+                    .append(",\"description\":\"벤치마크용 샘플 도서 ").append(i).append("\"}\n");
+        }
+        context.getBean(BookImportService.class).importBooks(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+                BookFileFormat.NDJSON, admin);
+    }
+}
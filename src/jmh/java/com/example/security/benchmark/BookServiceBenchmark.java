@@ -0,0 +1,73 @@
+package com.example.security.benchmark;
+
+import com.example.security.dto.BookPage;
+import com.example.security.dto.BookSummary;
+import com.example.security.entity.Book;
+import com.example.security.repository.BookRepository;
+import com.example.security.service.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookService / BookRepository 조회 경로 (H2 내장 DB)
+ * - searchByTitle: 검색 색인 조회 + IN 쿼리
+ * - findAllWithMember: 전체 목록 조회 및 엔티티 매핑 (카탈로그 크기에 비례)
+ * - findPage: 키셋 페이지네이션 첫 페이지 (카탈로그 크기와 무관해야 함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    @Param({"1000", "50000"})
+    public int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private BookRepository bookRepository;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedBooks(context, catalogSize);
+        bookService = context.getBean(BookService.class);
+        bookRepository = context.getBean(BookRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookSummary> searchByTitle() {
+        return bookService.searchByTitle("자바");
+    }
+
+    @Benchmark
+    public List<Book> findAllWithMember() {
+        return bookRepository.findAllWithMember();
+    }
+
+    @Benchmark
+    public BookPage<BookSummary> findFirstPage() {
+        return bookService.findPage(null, null, BookService.DEFAULT_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.security.benchmark;
+
+import com.example.security.dto.BookSummary;
+import com.example.security.entity.CustomerMember;
+import com.example.security.entity.Member;
+import com.example.security.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * list.html 렌더링 비용 (DB 조회 제외, 책 수에 따른 템플릿 처리 시간)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListTemplateBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int bookCount;
+
+    private ConfigurableApplicationContext context;
+    private View view;
+    private Map<String, Object> model;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        view = context.getBean(ThymeleafViewResolver.class).resolveViewName("list", Locale.KOREAN);
+
+        // 로그인한 사용자 기준으로 렌더링 (수정/삭제 버튼 권한 체크 포함)
+        Member member = context.getBean(MemberRepository.class).findByUsername("user").orElseThrow();
+        CustomerMember principal = new CustomerMember(member);
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        List<BookSummary> books = new ArrayList<>(bookCount);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < bookCount; i++) {
+            books.add(new BookSummary((long) i + 1, "벤치마크 도서 " + i, "저자 " + (i % 100),
+                    10000 + i, 100 + i % 900, now.minusMinutes(i), member.getUsername(), member.getName()));
+        }
+        model = new HashMap<>();
+        model.put("books", books);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public int render() throws Exception {
+        WebApplicationContext webContext = (WebApplicationContext) context;
+        MockHttpServletRequest request = new MockHttpServletRequest(webContext.getServletContext(), "GET", "/ui/list");
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, webContext);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        view.render(new HashMap<>(model), request, response);
+        return response.getContentAsByteArray().length;
+    }
+}
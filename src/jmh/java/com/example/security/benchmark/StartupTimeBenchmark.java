@@ -0,0 +1,115 @@
+package com.example.security.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 후 첫 응답까지 걸리는 시간 (프로세스 실행 → GET /ui/list 200)
+ *
+ * JVM 옵션(AppCDS, AOT)이 측정 대상이므로 JMH 포크 대신 실행 가능한 jar를 매번 새 프로세스로 띄운다.
+ * 실행: ./gradlew startupBenchmark [-Paot] [-PstartupRuns=5]
+ * - default      : 기본 프로필
+ * - fast         : fast 프로필 (스키마 확인 생략, 지연 초기화, 백그라운드 초기 데이터)
+ * - fast+aot+cds : fast 프로필 + AOT 처리 결과 + AppCDS 아카이브 (-Paot로 빌드한 경우만)
+ * DB는 application.yml 설정(MySQL)을 그대로 사용하며 스키마가 이미 있어야 한다. (기본 프로필로 한 번 실행)
+ * 결과: 실행별 시간과 중앙값, build/reports/startup/results.csv
+ */
+public final class StartupTimeBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupTimeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(required("startup.jar"));
+        Path archive = Path.of(required("startup.archive"));
+        Path report = Path.of(required("startup.report"));
+        boolean aot = Boolean.getBoolean("startup.aot");
+        int runs = Integer.getInteger("startup.runs", 5);
+        int port = Integer.getInteger("startup.port", 18081);
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of());
+        modes.put("fast", List.of("-Dspring.profiles.active=fast"));
+        if (aot && Files.exists(archive)) {
+            modes.put("fast+aot+cds", List.of("-Dspring.profiles.active=fast", "-Dspring.aot.enabled=true",
+                    "-XX:SharedArchiveFile=" + archive));
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        List<String> lines = new ArrayList<>(List.of("mode,run,millis"));
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = measure(client, jar, mode.getValue(), port);
+                lines.add(mode.getKey() + "," + (run + 1) + "," + millis[run]);
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-14s median %6d ms  (min %d, max %d, %d회)%n",
+                    mode.getKey(), millis[runs / 2], millis[0], millis[runs - 1], runs);
+        }
+        Files.createDirectories(report.getParent());
+        Files.write(report, lines);
+    }
+
+    private static long measure(HttpClient client, Path jar, List<String> jvmArgs, int port) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar.getFileName().toString(),
+                "--server.port=" + port, "--management.server.port=0", "--logging.level.root=WARN"));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/ui/list"))
+                .timeout(Duration.ofSeconds(5))
+                .GET().build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParent().toFile())   // AppCDS는 학습 실행과 같은 경로의 jar가 필요
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 종료되었습니다: exit " + process.exitValue());
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않았거나 응답 준비 중
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(TIMEOUT + " 안에 /ui/list 가 응답하지 않았습니다.");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            throw new IllegalStateException("시스템 속성이 필요합니다: -D" + name + " (./gradlew startupBenchmark 로 실행)");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.security.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 (실제 Tomcat + HTTP)
+ *
+ * 동시 요청 수(@Threads)를 Tomcat 기본 스레드 수(200)보다 크게 두고
+ * /ui/list, /book/search 의 처리량(Throughput)과 지연 시간 분포(SampleTime → p0.99)를 잰다.
+ * - threading=virtual 은 JDK 21 이상에서만 의미가 있다. (./gradlew jmh -PjmhJavaVersion=21)
+ * - H2 메모리 DB는 I/O 대기가 거의 없어 차이가 작게 나온다. MySQL 대상 측정은 부하 테스트 도구를 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start(
+                "--spring.threads.virtual.enabled=" + "virtual".equals(threading));
+        BenchmarkApplication.seedBooks(context, 1000);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+
+        // 모든 벤치마크 스레드가 같은 로그인 세션(JSESSIONID)을 공유
+        client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        login("user", "user123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int list() throws Exception {
+        return get("/ui/list");
+    }
+
+    @Benchmark
+    public int search() throws Exception {
+        return get("/book/search?title=" + URLEncoder.encode("자바", StandardCharsets.UTF_8));
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " 응답 코드: " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    // 로그인 폼(/ui/list)에서 CSRF 토큰을 읽어 폼 로그인
+    private void login(String username, String password) throws IOException, InterruptedException {
+        String page = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/ui/list")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = CSRF.matcher(page);
+        if (!matcher.find()) {
+            throw new IllegalStateException("로그인 폼에서 CSRF 토큰을 찾을 수 없습니다.");
+        }
+        String form = "username=" + username + "&password=" + password + "&_csrf=" + matcher.group(1);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + location);
+        }
+    }
+}
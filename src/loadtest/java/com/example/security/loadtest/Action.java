@@ -0,0 +1,124 @@
+package com.example.security.loadtest;
+
+import java.io.IOException;
+
+/**
+ * 가상 사용자가 수행하는 동작 (BookController / 메인 화면 기준)
+ *
+ * 응답 코드가 success()를 만족하지 않으면 오류로 집계한다.
+ * POST 요청은 성공/실패와 관계없이 302(PRG)로 응답하므로 302를 성공으로 본다.
+ */
+enum Action {
+
+    LIST("GET /ui/list") {
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            return user.get("/ui/list");
+        }
+    },
+    SEARCH("GET /book/search") {
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            return user.get("/book/search?title=" + VirtualUser.encode(workload.searchKeyword()));
+        }
+    },
+    DETAIL("GET /book/detail/{id}") {
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            return user.get("/book/detail/" + workload.anyBookId());
+        }
+    },
+    MYBOOKS("GET /book/mybooks") {
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            return user.refreshOwnBooks();
+        }
+    },
+    REGISTER("POST /book/register") {
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            return user.post("/book/register", workload.bookForm());
+        }
+
+        @Override
+        boolean success(int status) {
+            return status == 302;
+        }
+    },
+    EDIT("GET+POST /book/edit/{id}") {
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            return user.edit(user.anyOwnBook(), workload.bookForm());
+        }
+
+        @Override
+        boolean success(int status) {
+            return status == 302;
+        }
+
+        @Override
+        boolean needsOwnBook() {
+            return true;
+        }
+    },
+    DELETE("POST /book/delete/{id}") {
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            long bookId = user.takeOwnBook();
+            workload.deleted(bookId);
+            return user.post("/book/delete/" + bookId, "");
+        }
+
+        @Override
+        boolean success(int status) {
+            return status == 302;
+        }
+
+        @Override
+        boolean needsOwnBook() {
+            return true;
+        }
+    },
+    LOGIN("POST /login") {
+        // 로그아웃 후 다시 로그인 (BCrypt 검증 + 세션 생성 비용)
+        @Override
+        int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException {
+            user.logout();
+            return user.login();
+        }
+
+        @Override
+        boolean success(int status) {
+            return status == 302;
+        }
+    };
+
+    private final String endpoint;
+
+    Action(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 결과 파일에 기록되는 이름 (메서드 + URL 패턴)
+     */
+    String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 요청을 보내고 응답 코드를 반환
+     */
+    abstract int execute(VirtualUser user, Workload workload) throws IOException, InterruptedException;
+
+    boolean success(int status) {
+        return status == 200;
+    }
+
+    /**
+     * 본인 책이 있어야 수행할 수 있는 동작 (없으면 REGISTER로 대체)
+     */
+    boolean needsOwnBook() {
+        return false;
+    }
+}
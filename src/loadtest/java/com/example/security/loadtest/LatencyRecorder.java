@@ -0,0 +1,117 @@
+package com.example.security.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 분포(HdrHistogram)와 오류 수 집계
+ *
+ * 지연 시간은 마이크로초 단위로 기록하고, 결과 파일에는 밀리초로 변환해 쓴다.
+ * - results.json : 엔드포인트별 처리량과 백분위수 (p50, p90, p99, p99.9, max)
+ * - <이름>.hgrm   : HdrHistogram 백분위 분포 (HdrHistogram plotter 등으로 그래프 작성)
+ */
+final class LatencyRecorder {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Map<Action, Stats> stats = new EnumMap<>(Action.class);
+
+    private static final class Stats {
+        // 여러 스레드에서 동시에 기록 (범위는 자동으로 늘어남)
+        final Histogram latency = new ConcurrentHistogram(3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    LatencyRecorder() {
+        for (Action action : Action.values()) {
+            stats.put(action, new Stats());
+        }
+    }
+
+    void record(Action action, long latencyNanos, boolean success) {
+        Stats s = stats.get(action);
+        s.latency.recordValue(Math.max(1, latencyNanos / 1000));
+        if (!success) {
+            s.errors.increment();
+        }
+    }
+
+    long totalCount() {
+        long total = 0;
+        for (Stats s : stats.values()) {
+            total += s.latency.getTotalCount();
+        }
+        return total;
+    }
+
+    /**
+     * 결과 파일 작성
+     *
+     * @param seconds 측정 시간 (처리량 계산용, 예열 제외)
+     * @return results.json 경로
+     */
+    Path write(Path directory, Map<String, Object> options, double seconds) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(3);
+        long errors = 0;
+
+        for (Map.Entry<Action, Stats> e : stats.entrySet()) {
+            Histogram h = e.getValue().latency.copy();
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            long errorCount = e.getValue().errors.sum();
+            endpoints.put(e.getKey().endpoint(), summarize(h, errorCount, seconds));
+            all.add(h);
+            errors += errorCount;
+
+            Path hgrm = directory.resolve(e.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                h.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.put("measuredSeconds", seconds);
+        report.put("total", summarize(all, errors, seconds));
+        report.put("endpoints", endpoints);
+
+        Path json = directory.resolve("results.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), report);
+        return json;
+    }
+
+    private static Map<String, Object> summarize(Histogram h, long errors, double seconds) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", h.getTotalCount());
+        map.put("errors", errors);
+        map.put("throughput", round(h.getTotalCount() / seconds));
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", round(h.getMean() / MICROS_PER_MILLI));
+        for (double p : PERCENTILES) {
+            latency.put("p" + (p == Math.rint(p) ? String.valueOf((int) p) : String.valueOf(p)),
+                    round(h.getValueAtPercentile(p) / MICROS_PER_MILLI));
+        }
+        latency.put("max", round(h.getMaxValue() / MICROS_PER_MILLI));
+        map.put("latencyMillis", latency);
+        return map;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.security.loadtest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 설정된 부하 모델로 요청을 발생시키고 지연 시간을 기록
+ *
+ * open 모델은 요청 시작 시각을 미리 정해두고(초당 rate개, 일정 간격) 응답과 관계없이 요청을 시작한다.
+ * 지연 시간은 실제 전송 시각이 아니라 "예정 시각"부터 잰다.
+ * 서버가 느려져 작업이 밀리면 대기한 시간까지 지연 시간에 포함된다. (Coordinated Omission 보정)
+ * closed 모델은 응답을 받은 스레드가 다음 요청을 보내므로, 느려진 만큼 요청 수 자체가 줄어든다.
+ *
+ * 두 모델 모두 가상 사용자(세션)를 대기열에서 빌려 쓴다.
+ * 사용자 수가 concurrency보다 적으면 세션을 기다리는 시간도 지연 시간에 포함된다.
+ */
+final class LoadRunner {
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 120;
+
+    private final LoadTestOptions options;
+    private final Workload workload;
+    private final LatencyRecorder recorder;
+    private final BlockingQueue<VirtualUser> idle;
+
+    LoadRunner(LoadTestOptions options, Workload workload, LatencyRecorder recorder, List<VirtualUser> users) {
+        this.options = options;
+        this.workload = workload;
+        this.recorder = recorder;
+        this.idle = new ArrayBlockingQueue<>(users.size(), false, users);
+    }
+
+    /**
+     * 예열 + 측정 시간 동안 부하를 발생시키고, 밀린 요청이 모두 끝날 때까지 대기
+     */
+    void run() throws InterruptedException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency, r -> {
+            Thread thread = new Thread(r, "load-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+        long end = measureFrom + options.duration.toNanos();
+
+        if (options.mode == LoadTestOptions.Mode.OPEN) {
+            long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / options.rate));
+            for (long next = start; next < end; next += interval) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = next;
+                workers.execute(() -> perform(intendedStart, measureFrom, end));
+            }
+        } else {
+            long thinkTime = options.thinkTime.toNanos();
+            for (int i = 0; i < options.concurrency; i++) {
+                workers.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        perform(System.nanoTime(), measureFrom, end);
+                        if (thinkTime > 0) {
+                            LockSupport.parkNanos(thinkTime);
+                        }
+                    }
+                });
+            }
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(options.duration.toSeconds() + DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            int dropped = workers.shutdownNow().size();
+            System.err.printf("종료 대기 시간 초과: 시작하지 못한 요청 %d건은 집계하지 않았습니다.%n", dropped);
+        }
+    }
+
+    private void perform(long intendedStart, long measureFrom, long end) {
+        VirtualUser user;
+        try {
+            user = idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Action action = workload.next(user);
+        boolean success;
+        try {
+            success = action.success(action.execute(user, workload));
+        } catch (IOException e) {
+            success = false;   // 연결 실패, 타임아웃
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            idle.add(user);
+        }
+        if (intendedStart >= measureFrom && intendedStart < end) {
+            recorder.record(action, System.nanoTime() - intendedStart, success);
+        }
+    }
+}
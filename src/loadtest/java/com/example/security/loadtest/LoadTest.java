@@ -0,0 +1,84 @@
+package com.example.security.loadtest;
+
+import com.example.security.entity.Member;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 종단 간(End-to-End) 부하 테스트
+ *
+ * 실제 Tomcat + HTTP로 로그인 → 목록/상세/검색 → 등록/수정/삭제 흐름을 재현한다.
+ * 1) H2 메모리 DB로 애플리케이션 실행, 회원 users명과 책 books권 생성
+ * 2) 회원마다 가상 사용자(세션)를 만들어 폼 로그인 (CSRF 토큰 포함)
+ * 3) open(초당 요청 수 고정) 또는 closed(동시 사용자 수 고정) 모델로 부하 발생
+ * 4) 엔드포인트별 처리량, 지연 시간 백분위수를 build/reports/loadtest/results.json 에 기록
+ *
+ * 실행: ./gradlew loadTest --args="--mode=open --rate=300 --duration=2m"
+ * 설정 항목은 LoadTestOptions 참고
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ExecutorService httpExecutor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "load-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (ConfigurableApplicationContext context = LoadTestApplication.start()) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long seedStart = System.currentTimeMillis();
+            List<Member> members = LoadTestApplication.seedMembers(context, options.users);
+            Map<String, List<Long>> books = LoadTestApplication.seedBooks(context, members, options.books);
+            System.out.printf("초기 데이터 생성: 회원 %d명, 책 %d권 (%dms)%n",
+                    members.size(), options.books, System.currentTimeMillis() - seedStart);
+
+            List<VirtualUser> users = new ArrayList<>(members.size());
+            for (Member member : members) {
+                users.add(new VirtualUser(baseUrl, member.getUsername(), LoadTestApplication.PASSWORD,
+                        books.getOrDefault(member.getUsername(), List.of()), httpExecutor));
+            }
+            login(users, httpExecutor);
+
+            long[] bookIds = books.values().stream().flatMap(List::stream).mapToLong(Long::longValue).toArray();
+            Workload workload = new Workload(options.mix, bookIds);
+            LatencyRecorder recorder = new LatencyRecorder();
+
+            System.out.printf("부하 시작: %s 모델, 예열 %ds + 측정 %ds%n",
+                    options.mode.name().toLowerCase(), options.warmup.toSeconds(), options.duration.toSeconds());
+            new LoadRunner(options, workload, recorder, users).run();
+
+            Path report = recorder.write(options.output, options.describe(), options.duration.toMillis() / 1000.0);
+            System.out.printf("측정 요청 %d건, 결과: %s%n", recorder.totalCount(), report.toAbsolutePath());
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    // 모든 가상 사용자 로그인 (BCrypt 검증이 있어 병렬로 처리)
+    private static void login(List<VirtualUser> users, ExecutorService executor) throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(users.size());
+        for (VirtualUser user : users) {
+            results.add(executor.submit(user::login));
+        }
+        for (int i = 0; i < users.size(); i++) {
+            int status = results.get(i).get();
+            if (status != 302) {
+                throw new IllegalStateException("로그인 실패: " + users.get(i).username + " (" + status + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.security.loadtest;
+
+import com.example.security.SecurityApplication;
+import com.example.security.dto.BookFileFormat;
+import com.example.security.entity.Member;
+import com.example.security.service.BookImportService;
+import com.example.security.service.MemberService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트 대상 애플리케이션 실행 및 초기 데이터 생성
+ *
+ * MySQL 대신 H2 메모리 DB로 같은 JVM 안에서 애플리케이션을 띄운다.
+ * 부하 발생 스레드와 CPU를 나눠 쓰므로 절대 수치보다는 변경 전후 비교용으로 사용한다.
+ */
+final class LoadTestApplication {
+
+    static final String PASSWORD = "load1234";
+
+    private LoadTestApplication() {
+    }
+
+    /**
+     * 모든 가상 사용자가 같은 IP(localhost)에서 접속하므로 IP별 로그인 제한은 사실상 끈다.
+     * 아이디별 제한은 그대로 두어 재로그인이 잦으면 429가 오류로 집계된다.
+     */
+    static ConfigurableApplicationContext start() {
+        return SpringApplication.run(SecurityApplication.class,
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--app.login-throttle.ip-capacity=" + Integer.MAX_VALUE,
+                "--logging.level.root=WARN");
+    }
+
+    /**
+     * 회원 count명 생성 (아이디: load0001 ~, 비밀번호: PASSWORD)
+     */
+    static List<Member> seedMembers(ConfigurableApplicationContext context, int count) {
+        MemberService memberService = context.getBean(MemberService.class);
+        // BCrypt 해싱이 대부분의 시간이므로 병렬로 가입
+        return IntStream.rangeClosed(1, count).parallel()
+                .mapToObj(i -> {
+                    Member member = new Member();
+                    member.setUsername(String.format("load%04d", i));
+                    member.setPassword(PASSWORD);
+                    member.setName("부하테스트" + i);
+                    member.setAge(20 + i % 40);
+                    member.setEmail(member.getUsername() + "@loadtest.local");
+                    return memberService.register(member);
+                })
+                .toList();
+    }
+
+    /**
+     * 책 count권을 회원들에게 고르게 나눠 대량 등록
+     *
+     * @return 아이디 → 그 회원이 등록한 책 id 목록
+     */
+    static Map<String, List<Long>> seedBooks(ConfigurableApplicationContext context,
+                                            List<Member> members, int count) throws IOException {
+        BookImportService importService = context.getBean(BookImportService.class);
+        int perMember = count / members.size();
+        int remainder = count % members.size();
+        int n = 0;
+        for (int m = 0; m < members.size(); m++) {
+            int size = perMember + (m < remainder ? 1 : 0);
+            StringBuilder ndjson = new StringBuilder(size * 120);
+            for (int i = 0; i < size; i++, n++) {
+                ndjson.append("{\"title\":\"").append(Workload.TITLES[n % Workload.TITLES.length]).append(' ').append(n)
+                        .append("\",\"author\":\"").append(Workload.AUTHORS[(n / 7) % Workload.AUTHORS.length])
+                        .append("\",\"price\":").append(10000 + (n % 50) * 1000)
+                        .append(",\"page\":").append(100 + n % 900)
+                        .append(",\"description\":\"부하 테스트용 샘플 도서 ").append(n).append("\"}\n");
+            }
+            importService.importBooks(new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+                    BookFileFormat.NDJSON, members.get(m));
+        }
+
+        Map<Long, String> usernames = new HashMap<>();
+        members.forEach(member -> usernames.put(member.getId(), member.getUsername()));
+        Map<String, List<Long>> books = new HashMap<>();
+        context.getBean(JdbcTemplate.class).query("SELECT id, member_id FROM book", rs -> {
+            String username = usernames.get(rs.getLong("member_id"));
+            if (username != null) {
+                books.computeIfAbsent(username, u -> new ArrayList<>()).add(rs.getLong("id"));
+            }
+        });
+        return books;
+    }
+}
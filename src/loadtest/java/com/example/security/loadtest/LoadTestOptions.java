@@ -0,0 +1,94 @@
+package com.example.security.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--이름=값 형식의 실행 인자)
+ *
+ * 예) ./gradlew loadTest --args="--mode=open --rate=300 --duration=2m --users=100 --books=20000"
+ */
+final class LoadTestOptions {
+
+    /**
+     * 부하 모델
+     * - open  : 응답과 관계없이 rate(초당 요청 수)로 요청을 시작 (지연 시간은 예정 시각부터 측정 → 밀린 시간 포함)
+     * - closed: concurrency명이 응답을 받으면 think-time만큼 쉬고 다음 요청 (동시 사용자 수 고정)
+     */
+    enum Mode { OPEN, CLOSED }
+
+    final int users;               // 로그인해서 요청을 보내는 회원 수 (세션 수)
+    final int books;               // 미리 등록할 책 수
+    final Mode mode;
+    final double rate;             // open: 초당 요청 수
+    final int concurrency;         // 동시에 요청을 보내는 스레드 수
+    final Duration thinkTime;      // closed: 요청 사이 대기 시간
+    final Duration warmup;         // 측정 전 예열 시간 (결과에서 제외)
+    final Duration duration;       // 측정 시간
+    final Map<Action, Integer> mix;
+    final Path output;             // 결과 디렉터리
+    final long seed;               // 난수 시드 (같은 값이면 같은 요청 순서)
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.users = Integer.parseInt(values.getOrDefault("users", "50"));
+        this.books = Integer.parseInt(values.getOrDefault("books", "5000"));
+        this.mode = Mode.valueOf(values.getOrDefault("mode", "open").toUpperCase());
+        this.rate = Double.parseDouble(values.getOrDefault("rate", "200"));
+        this.concurrency = Integer.parseInt(values.getOrDefault("concurrency", "64"));
+        this.thinkTime = DurationStyle.detectAndParse(values.getOrDefault("think-time", "0ms"));
+        this.warmup = DurationStyle.detectAndParse(values.getOrDefault("warmup", "15s"));
+        this.duration = DurationStyle.detectAndParse(values.getOrDefault("duration", "60s"));
+        this.mix = parseMix(values.getOrDefault("mix",
+                "list=35,search=20,detail=20,mybooks=5,register=8,edit=6,delete=4,login=2"));
+        this.output = Path.of(values.getOrDefault("output", "build/reports/loadtest"));
+        this.seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        if (users < 1 || concurrency < 1 || rate <= 0) {
+            throw new IllegalArgumentException("users, concurrency, rate는 0보다 커야 합니다.");
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            int idx = arg.indexOf('=');
+            values.put(arg.substring(2, idx), arg.substring(idx + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    // "list=35,search=20" → 동작별 가중치
+    private static Map<Action, Integer> parseMix(String value) {
+        Map<Action, Integer> mix = new EnumMap<>(Action.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            mix.put(Action.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("users", users);
+        map.put("books", books);
+        map.put("mode", mode.name().toLowerCase());
+        map.put("rate", mode == Mode.OPEN ? rate : null);
+        map.put("concurrency", concurrency);
+        map.put("thinkTimeMillis", thinkTime.toMillis());
+        map.put("warmupSeconds", warmup.toSeconds());
+        map.put("durationSeconds", duration.toSeconds());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((action, weight) -> weights.put(action.name().toLowerCase(), weight));
+        map.put("mix", weights);
+        map.put("seed", seed);
+        return map;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.security.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그인 세션 하나를 가진 가상 사용자
+ *
+ * - 사용자마다 CookieManager를 따로 두어 SESSION 쿠키(spring-session)와 CSRF 토큰이 분리된다.
+ * - 한 번에 한 스레드만 사용한다. (LoadRunner가 대기열로 빌려주고 돌려받음)
+ * - 리다이렉트는 따라가지 않는다. POST의 302 응답 자체를 측정한다.
+ */
+final class VirtualUser {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern BOOK_LINK = Pattern.compile("/book/detail/(\\d+)\"");
+    private static final Pattern VERSION = Pattern.compile("name=\"version\"\\s+value=\"(\\d+)\"");
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    final String username;
+    private final String password;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final List<Long> ownBooks;
+    private String csrfToken;
+
+    VirtualUser(String baseUrl, String username, String password, List<Long> ownBooks, Executor executor) {
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.password = password;
+        this.ownBooks = new ArrayList<>(ownBooks);
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(TIMEOUT)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 로그인 폼(/ui/list)의 CSRF 토큰으로 폼 로그인
+     *
+     * 로그인하면 세션 id와 CSRF 토큰이 새로 발급되므로 등록 폼에서 토큰을 다시 읽는다.
+     *
+     * @return POST /login 응답 코드 (실패 시 302 → /ui/list?error 이므로 -1 반환)
+     */
+    int login() throws IOException, InterruptedException {
+        readCsrfToken("/ui/list");
+        String form = "username=" + encode(username) + "&password=" + encode(password) + "&_csrf=" + csrfToken;
+        HttpResponse<Void> response = client.send(postRequest("/login", form), HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() == 302 && location.contains("error")) {
+            return -1;
+        }
+        readCsrfToken("/book/register");
+        return response.statusCode();
+    }
+
+    // 로그아웃은 POST + CSRF 토큰이어야 처리된다
+    void logout() throws IOException, InterruptedException {
+        post("/logout", "");
+    }
+
+    int get(String path) throws IOException, InterruptedException {
+        return client.send(getRequest(path), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    int post(String path, String form) throws IOException, InterruptedException {
+        String body = form.isEmpty() ? "_csrf=" + csrfToken : form + "&_csrf=" + csrfToken;
+        return client.send(postRequest(path, body), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * 수정 폼을 열어 hidden version을 읽은 뒤 그 버전으로 수정 요청
+     * (version 없이 보내면 수정이 거절되므로 실제 사용자처럼 폼을 먼저 연다)
+     */
+    int edit(long bookId, String form) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(getRequest("/book/edit/" + bookId), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return response.statusCode();
+        }
+        Matcher matcher = VERSION.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("/book/edit/" + bookId + " 에서 version 필드를 찾을 수 없습니다.");
+        }
+        return post("/book/edit/" + bookId, form + "&version=" + matcher.group(1));
+    }
+
+    /**
+     * 내 책 목록을 조회하고, 그 결과로 수정/삭제 대상 목록을 갱신
+     * (새로 등록한 책의 id는 이 목록으로 알게 된다)
+     */
+    int refreshOwnBooks() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(getRequest("/book/mybooks"), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+            Set<Long> ids = new LinkedHashSet<>();
+            Matcher matcher = BOOK_LINK.matcher(response.body());
+            while (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+            ownBooks.clear();
+            ownBooks.addAll(ids);
+        }
+        return response.statusCode();
+    }
+
+    boolean hasOwnBook() {
+        return !ownBooks.isEmpty();
+    }
+
+    long anyOwnBook() {
+        return ownBooks.get(ThreadLocalRandom.current().nextInt(ownBooks.size()));
+    }
+
+    long takeOwnBook() {
+        int last = ownBooks.size() - 1;
+        int idx = ThreadLocalRandom.current().nextInt(ownBooks.size());
+        long bookId = ownBooks.get(idx);
+        ownBooks.set(idx, ownBooks.get(last));
+        ownBooks.remove(last);
+        return bookId;
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private void readCsrfToken(String path) throws IOException, InterruptedException {
+        String page = client.send(getRequest(path), HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = CSRF.matcher(page);
+        if (!matcher.find()) {
+            throw new IllegalStateException(path + " 에서 CSRF 토큰을 찾을 수 없습니다.");
+        }
+        csrfToken = encode(matcher.group(1));
+    }
+
+    private HttpRequest getRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest postRequest(String path, String form) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+    }
+}
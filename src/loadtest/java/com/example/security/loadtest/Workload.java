@@ -0,0 +1,90 @@
+package com.example.security.loadtest;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 모든 가상 사용자가 공유하는 요청 데이터
+ *
+ * - 동작 선택: 설정된 가중치(mix) 비율로 무작위 선택
+ * - 상세 조회 대상: 초기 데이터로 등록한 책 중 삭제되지 않은 책
+ * - 검색어/등록 폼: 초기 데이터와 같은 제목·저자 목록에서 생성
+ */
+final class Workload {
+
+    static final String[] TITLES = {
+            "자바의 정석", "스프링 부트 실전", "Clean Code", "Effective Java", "객체지향의 사실과 오해",
+            "Refactoring", "토비의 스프링", "Domain Driven Design", "HTTP 완벽 가이드", "Java Concurrency in Practice"
+    };
+    static final String[] AUTHORS = {
+            "남궁성", "김영한", "Robert Martin", "Joshua Bloch", "조영호",
+            "Martin Fowler", "이일민", "Eric Evans", "데이빗 고울리", "Brian Goetz"
+    };
+    private static final String[] KEYWORDS = {
+            "자바", "스프링", "clean", "effective", "객체", "refactoring", "토비", "domain", "http", "java", "김영한", "fowler"
+    };
+
+    private final Action[] actions;
+    private final int[] cumulativeWeights;
+    private final long[] bookIds;
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+
+    Workload(Map<Action, Integer> mix, long[] bookIds) {
+        this.actions = mix.keySet().toArray(new Action[0]);
+        this.cumulativeWeights = new int[actions.length];
+        int total = 0;
+        for (int i = 0; i < actions.length; i++) {
+            total += mix.get(actions[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("mix 가중치 합이 0입니다.");
+        }
+        this.bookIds = bookIds;
+    }
+
+    /**
+     * 가중치 비율로 다음 동작 선택
+     * 본인 책이 없는 사용자의 수정/삭제는 등록으로 대체한다.
+     */
+    Action next(VirtualUser user) {
+        int r = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (cumulativeWeights[i] <= r) {
+            i++;
+        }
+        Action action = actions[i];
+        return action.needsOwnBook() && !user.hasOwnBook() ? Action.REGISTER : action;
+    }
+
+    long anyBookId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long bookId = bookIds[random.nextInt(bookIds.length)];
+        // 삭제된 책이면 몇 번 다시 뽑는다 (대부분 남아있으므로 금방 찾음)
+        for (int i = 0; i < 8 && deleted.contains(bookId); i++) {
+            bookId = bookIds[random.nextInt(bookIds.length)];
+        }
+        return bookId;
+    }
+
+    void deleted(long bookId) {
+        deleted.add(bookId);
+    }
+
+    String searchKeyword() {
+        return KEYWORDS[ThreadLocalRandom.current().nextInt(KEYWORDS.length)];
+    }
+
+    // 등록/수정 폼 본문 (application/x-www-form-urlencoded, _csrf 제외)
+    String bookForm() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = random.nextInt(1_000_000);
+        return "title=" + VirtualUser.encode(TITLES[n % TITLES.length] + " " + n)
+                + "&author=" + VirtualUser.encode(AUTHORS[random.nextInt(AUTHORS.length)])
+                + "&price=" + (10000 + random.nextInt(50) * 1000)
+                + "&page=" + (100 + random.nextInt(900))
+                + "&description=" + VirtualUser.encode("부하 테스트 도서 " + n);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.security.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 횟수 제한 필터 (UsernamePasswordAuthenticationFilter, BasicAuthenticationFilter 앞에 배치)
+ *
+ * 로그인 시도마다 BCrypt 검증이 한 번씩 실행되므로, 비밀번호 대입 공격이 몰리면 CPU를 모두 차지한다.
+ * 비밀번호를 확인하기 전에 IP별, 아이디별 토큰 버킷으로 시도 횟수를 제한한다.
+ * - 한도를 넘으면 BCrypt 없이 바로 429 + Retry-After 응답
+ * - IP를 먼저 확인하고, 통과하면 아이디를 확인 (아이디는 대소문자 무시)
+ * - 지표: login.throttled (거절 수, key=ip|username), login.throttle.buckets (보관 중인 버킷 수)
+ *
+ * HTTP Basic 인증(Authorization: Basic 헤더가 있는 모든 요청)도 요청마다 BCrypt를 실행하므로 같은 버킷으로 제한한다.
+ * - 아이디는 헤더에서 꺼내고, 인증에 성공하면(401이 아니면) 사용한 토큰을 돌려준다.
+ *   정상 클라이언트는 한도를 소모하지 않고, 틀린 비밀번호만 폼 로그인과 같은 속도로 제한된다.
+ * - 토큰은 BCrypt 전에 사용하므로 한 아이디로 동시에 검증되는 요청은 username-capacity개를 넘지 않는다.
+ *
+ * IP는 request.getRemoteAddr() 기준이다. 리버스 프록시/로드밸런서 뒤에서는 모든 요청이 프록시 IP 하나로 모이므로
+ * server.forward-headers-strategy (application.yml)로 X-Forwarded-For를 신뢰하도록 설정해야 클라이언트별로 나뉜다.
+ * 프록시 없이 직접 노출할 때는 none으로 두어야 한다. (헤더를 위조해 IP 제한을 피할 수 있음)
+ */
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_URL = "/login";
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final int MAX_USERNAME_LENGTH = 100;   // Member.username 컬럼 길이
+
+    private final TokenBucketMap addresses;
+    private final TokenBucketMap usernames;
+    private final Counter throttledByAddress;
+    private final Counter throttledByUsername;
+
+    /**
+     * @param ipCapacity             IP별 연속 허용 시도 수
+     * @param ipRefillPeriod         IP별 시도 1회가 다시 허용되는 시간
+     * @param usernameCapacity       아이디별 연속 허용 시도 수
+     * @param usernameRefillPeriod   아이디별 시도 1회가 다시 허용되는 시간
+     * @param maxEntries             IP, 아이디 각각 보관할 최대 버킷 수
+     */
+    public LoginThrottleFilter(int ipCapacity, Duration ipRefillPeriod,
+                               int usernameCapacity, Duration usernameRefillPeriod,
+                               int maxEntries, MeterRegistry registry) {
+        this.addresses = new TokenBucketMap(ipCapacity, ipRefillPeriod, maxEntries);
+        this.usernames = new TokenBucketMap(usernameCapacity, usernameRefillPeriod, maxEntries);
+
+        this.throttledByAddress = Counter.builder("login.throttled").tag("key", "ip").register(registry);
+        this.throttledByUsername = Counter.builder("login.throttled").tag("key", "username").register(registry);
+        Gauge.builder("login.throttle.buckets", addresses, TokenBucketMap::size).tag("key", "ip").register(registry);
+        Gauge.builder("login.throttle.buckets", usernames, TokenBucketMap::size).tag("key", "username").register(registry);
+        FunctionCounter.builder("login.throttle.evicted", addresses, TokenBucketMap::evictedCount)
+                .tag("key", "ip").register(registry);
+        FunctionCounter.builder("login.throttle.evicted", usernames, TokenBucketMap::evictedCount)
+                .tag("key", "username").register(registry);
+    }
+
+    // POST /login 과 Authorization: Basic 헤더가 있는 요청만 검사
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !(isFormLogin(request) || basicCredentials(request) != null);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String basic = isFormLogin(request) ? null : basicCredentials(request);
+        String address = request.getRemoteAddr();
+        long wait = addresses.tryAcquire(address);
+        if (wait > 0) {
+            throttledByAddress.increment();
+            reject(response, wait);
+            return;
+        }
+
+        String username = basic != null
+                ? basicUsername(basic)
+                : request.getParameter(UsernamePasswordAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY);
+        String usernameKey = username != null && !username.isBlank() ? normalize(username) : null;
+        if (usernameKey != null) {
+            wait = usernames.tryAcquire(usernameKey);
+            if (wait > 0) {
+                throttledByUsername.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Basic 인증 실패는 BasicAuthenticationEntryPoint가 401로 응답한다. 그 외에는 인증된 요청이므로 토큰 반환
+            if (basic != null && response.getStatus() != HttpServletResponse.SC_UNAUTHORIZED) {
+                addresses.release(address);
+                if (usernameKey != null) {
+                    usernames.release(usernameKey);
+                }
+            }
+        }
+    }
+
+    private static boolean isFormLogin(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && LOGIN_URL.equals(request.getServletPath());
+    }
+
+    // Authorization 헤더의 Basic 자격 증명 부분 (없으면 null)
+    private static String basicCredentials(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return null;
+        }
+        return header.substring(BASIC_PREFIX.length()).trim();
+    }
+
+    // "아이디:비밀번호"의 아이디 (디코딩할 수 없으면 null - BasicAuthenticationFilter가 400/401로 거절)
+    private static String basicUsername(String credentials) {
+        try {
+            String decoded = new String(Base64.getDecoder().decode(credentials), StandardCharsets.UTF_8);
+            int colon = decoded.indexOf(':');
+            return colon < 0 ? null : decoded.substring(0, colon);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("로그인 시도가 너무 많습니다. " + seconds + "초 후 다시 시도해 주세요.");
+    }
+
+    private static String normalize(String username) {
+        String key = username.trim().toLowerCase(Locale.ROOT);
+        return key.length() > MAX_USERNAME_LENGTH ? key.substring(0, MAX_USERNAME_LENGTH) : key;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.security.auth;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찼거나 대기 시간을 넘겼을 때 발생하는 예외
+ *
+ * PasswordHashingRejectionFilter가 HTTP 503 (Retry-After) 응답으로 변환한다.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.security.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * PasswordHashingRejectedException을 HTTP 503 응답으로 변환하는 필터
+ *
+ * 로그인(UsernamePasswordAuthenticationFilter)과 회원가입(컨트롤러) 모두에서
+ * 발생할 수 있으므로 보안 필터 체인 앞쪽에서 한 번에 처리한다.
+ */
+public class PasswordHashingRejectionFilter extends OncePerRequestFilter {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectionFilter(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException e) {
+            PasswordHashingRejectedException rejected = findRejection(e);
+            if (rejected == null || response.isCommitted()) {
+                throw e;
+            }
+            response.resetBuffer();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write(rejected.getMessage());
+        }
+    }
+
+    // 컨트롤러에서 발생한 예외는 ServletException으로 감싸져 올라온다.
+    private PasswordHashingRejectedException findRejection(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof PasswordHashingRejectedException rejected) {
+                return rejected;
+            }
+        }
+        return null;
+    }
+}
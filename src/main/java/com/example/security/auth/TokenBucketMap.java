@@ -0,0 +1,164 @@
+package com.example.security.auth;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(아이디, IP)별 토큰 버킷 모음
+ *
+ * 버킷마다 최대 capacity개의 토큰이 있고, refillPeriod마다 1개씩 다시 채워진다.
+ * 토큰이 없으면 거절하고 다음 토큰까지 남은 시간을 알려준다.
+ * - 버킷: "다음 토큰이 생기는 시각" 하나만 저장 (GCRA 방식, CAS 한 번으로 처리)
+ * - 저장소: 16개 구역(stripe)으로 나눈 ConcurrentHashMap, 구역별 최대 크기 제한
+ * - 구역이 가득 차면 다 채워진(오래 안 쓴) 버킷부터 제거하고, 그래도 많으면 가장 오래 전에 쓴 버킷 제거 (LRU)
+ *   다 채워진 버킷은 새로 만든 버킷과 같으므로 제거해도 제한이 풀리지 않는다.
+ */
+final class TokenBucketMap {
+
+    private static final int STRIPES = 16;
+
+    private final long intervalNanos;     // 토큰 1개가 채워지는 시간
+    private final long toleranceNanos;    // (capacity - 1) × interval: 몰아서 허용하는 양
+    private final int maxPerStripe;
+    private final LongSupplier clock;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongAdder evicted = new LongAdder();
+
+    private static final class Stripe {
+        final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+        final AtomicBoolean evicting = new AtomicBoolean();
+    }
+
+    private static final class Bucket {
+        // 이 시각이 지나야 capacity개를 모두 쓸 수 있다. (현재 시각 이하면 가득 찬 상태)
+        final AtomicLong fullAt;
+        volatile long lastAccess;
+
+        Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+            this.lastAccess = now;
+        }
+    }
+
+    /**
+     * @param capacity     연속으로 허용하는 최대 시도 수
+     * @param refillPeriod 토큰 1개가 다시 채워지는 시간
+     * @param maxEntries   보관할 최대 버킷 수 (대략적인 상한)
+     */
+    TokenBucketMap(int capacity, Duration refillPeriod, int maxEntries) {
+        this(capacity, refillPeriod, maxEntries, System::nanoTime);
+    }
+
+    TokenBucketMap(int capacity, Duration refillPeriod, int maxEntries, LongSupplier clock) {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("capacity는 1 이상, refillPeriod는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = refillPeriod.toNanos();
+        this.toleranceNanos = Math.multiplyExact(capacity - 1L, intervalNanos);
+        this.maxPerStripe = Math.max(1, maxEntries / STRIPES);
+        this.clock = clock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 토큰 1개 사용
+     *
+     * @return 0이면 허용, 0보다 크면 거절 (다음 토큰까지 남은 나노초)
+     */
+    long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        Stripe stripe = stripes[spread(key.hashCode()) & (STRIPES - 1)];
+        Bucket bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            Bucket created = new Bucket(now);
+            bucket = stripe.buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+                if (stripe.buckets.size() > maxPerStripe) {
+                    evict(stripe, now);
+                }
+            }
+        }
+        bucket.lastAccess = now;
+
+        while (true) {
+            long fullAt = bucket.fullAt.get();
+            long next = Math.max(fullAt, now);   // 오래 안 썼으면 가득 찬 상태에서 시작
+            long wait = next - toleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.fullAt.compareAndSet(fullAt, next + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire로 사용한 토큰 1개를 돌려줌 (버킷이 이미 제거되었으면 무시)
+     */
+    void release(String key) {
+        Bucket bucket = stripes[spread(key.hashCode()) & (STRIPES - 1)].buckets.get(key);
+        if (bucket != null) {
+            bucket.fullAt.addAndGet(-intervalNanos);   // 현재 시각보다 앞서면 가득 찬 상태와 같다
+        }
+    }
+
+    /**
+     * 현재 보관 중인 버킷 수
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    /**
+     * 크기 제한으로 제거된 버킷 수 (누적)
+     */
+    long evictedCount() {
+        return evicted.sum();
+    }
+
+    // 구역 하나를 정리. 다른 스레드가 정리 중이면 기다리지 않고 넘어간다.
+    private void evict(Stripe stripe, long now) {
+        if (!stripe.evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int before = stripe.buckets.size();
+            // 1) 가득 찬 버킷 제거 (제거 직전에 다른 스레드가 꺼내 쓴 경우 그 1회만 제한에서 빠진다)
+            stripe.buckets.values().removeIf(bucket -> bucket.fullAt.get() <= now);
+
+            // 2) 그래도 많으면 오래 전에 쓴 순서로 3/4까지 줄임
+            int target = maxPerStripe - maxPerStripe / 4;
+            if (stripe.buckets.size() > target) {
+                List<Map.Entry<String, Bucket>> entries = new ArrayList<>(stripe.buckets.entrySet());
+                entries.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+                for (int i = 0; i < entries.size() && stripe.buckets.size() > target; i++) {
+                    stripe.buckets.remove(entries.get(i).getKey(), entries.get(i).getValue());
+                }
+            }
+            evicted.add(Math.max(0, before - stripe.buckets.size()));
+        } finally {
+            stripe.evicting.set(false);
+        }
+    }
+
+    // 해시 상위 비트를 섞어 구역이 고르게 나뉘도록 함
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
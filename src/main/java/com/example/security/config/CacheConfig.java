@@ -0,0 +1,63 @@
+package com.example.security.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Locale;
+
+/**
+ * 엔티티 2차 캐시 설정
+ *
+ * 자주 조회되는 책 상세, 회원 정보를 DB 대신 메모리(Caffeine)에서 읽는다.
+ * - 캐시 크기/만료 시간: application.yml 의 spring.cache.caffeine.spec
+ * - 무효화: 엔티티 수정/삭제가 커밋되면 EntityCacheListener가 해당 항목 제거
+ * - 회원 키: userKey(username) (MySQL은 username 비교에서 대소문자를 구분하지 않으므로 소문자로 통일)
+ * - 지표: actuator metrics (cache.gets, cache.puts, cache.evictions)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String BOOKS = "books";       // key: 책 id
+    public static final String MEMBERS = "members";   // key: userKey(username), 값: MemberInfo
+    public static final String USERS = "users";       // key: userKey(username) (로그인용 CustomerMember)
+
+    /**
+     * 회원 캐시(members, users) 키
+     * 로그인/조회에 입력한 값과 DB에 저장된 값의 대소문자가 달라도 같은 항목을 가리키도록 한다.
+     */
+    public static String userKey(String username) {
+        return username == null ? null : username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 로그인 사용자 정보 캐시
+     * CustomUserDetailsService에서 사용하며, 회원이 수정되면 EntityCacheListener가 비운다.
+     * (권한만 바뀌면 member 행이 수정되지 않으므로 MemberService.changeRoles가 직접 비움)
+     */
+    @Bean
+    public UserCache userCache(CacheManager cacheManager) {
+        Cache cache = cacheManager.getCache(USERS);
+        return new UserCache() {
+            @Override
+            public UserDetails getUserFromCache(String username) {
+                return cache.get(userKey(username), UserDetails.class);
+            }
+
+            @Override
+            public void putUserInCache(UserDetails user) {
+                cache.put(userKey(user.getUsername()), user);
+            }
+
+            @Override
+            public void removeUserFromCache(String username) {
+                cache.evict(userKey(username));
+            }
+        };
+    }
+}
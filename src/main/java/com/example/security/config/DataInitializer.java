@@ -3,16 +3,27 @@ package com.example.security.config;
 import com.example.security.entity.Book;
 import com.example.security.entity.Member;
 import com.example.security.entity.Role;
+import com.example.security.event.BookCreated;
+import com.example.security.event.BookEventBus;
 import com.example.security.repository.BookRepository;
 import com.example.security.repository.MemberRepository;
 import com.example.security.repository.RoleRepository;
+import com.example.security.service.BookCatalogVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 애플리케이션 시작 시 초기 데이터를 생성하는 클래스
@@ -21,6 +32,14 @@ import java.util.Set;
  * - Role 초기화 (USER, ADMIN)
  * - 테스트 사용자 생성
  * - 샘플 책 데이터 생성
+ *
+ * 이미 생성되어 있으면(테스트 계정 2개가 모두 있으면) 쿼리 한 번으로 확인하고 건너뛴다.
+ * app.seed.mode
+ * - sync (기본): 시작 과정에서 생성 (첫 요청 전에 완료)
+ * - async (fast 프로필): 시작이 끝난 뒤 applicationTaskExecutor에서 생성 (BCrypt 해시가 시작 시간에서 빠짐)
+ * 샘플 책은 두 모드 모두 이벤트(BookCreated)로 색인/도서 수에 반영한다.
+ * 색인은 같은 책을 다시 색인해도 결과가 같고 도서 수는 실제 COUNT로 반영하므로,
+ * 시작 시 전체 색인/대사와 먼저 실행되든 나중에 실행되든 두 번 세어지지 않는다.
  */
 @Component
 @RequiredArgsConstructor
@@ -29,15 +48,48 @@ public class DataInitializer implements CommandLineRunner {
     private final MemberRepository memberRepository;
     private final RoleRepository roleRepository;
     private final BookRepository bookRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
+    private final BookEventBus bookEvents;
+    private final BookCatalogVersion catalogVersion;
+    private final TaskExecutor applicationTaskExecutor;
+
+    @Value("${app.seed.mode:sync}")
+    private String seedMode;
 
     @Override
     public void run(String... args) throws Exception {
+        if (!isAsync()) {
+            seed();
+        }
+    }
+
+    /**
+     * async 모드: 시작 완료 후 백그라운드에서 생성
+     * (색인/도서 수는 BookEventBus 소비 스레드가 초기화를 마친 뒤 이벤트로 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        if (isAsync()) {
+            applicationTaskExecutor.execute(this::seed);
+        }
+    }
+
+    private boolean isAsync() {
+        return "async".equalsIgnoreCase(seedMode);
+    }
+
+    private void seed() {
+        if (memberRepository.countByUsernameIn(List.of("user", "admin")) == 2) {
+            System.out.println("=== 초기 데이터가 이미 있어 생성을 건너뜁니다 ===");
+            return;
+        }
         System.out.println("=== 초기 데이터 생성 시작 ===");
 
-        // 1. Role 초기화
-        Role userRole = createRoleIfNotExists("USER");
-        Role adminRole = createRoleIfNotExists("ADMIN");
+        // 1. Role 초기화 (한 번에 조회)
+        Map<String, Role> roles = roleRepository.findAll().stream()
+                .collect(Collectors.toMap(Role::getName, Function.identity()));
+        Role userRole = createRoleIfNotExists(roles, "USER");
+        Role adminRole = createRoleIfNotExists(roles, "ADMIN");
 
         // 2. 테스트 사용자 생성
         Member testUser = createMemberIfNotExists(
@@ -52,7 +104,9 @@ public class DataInitializer implements CommandLineRunner {
 
         // 3. 샘플 책 데이터 생성 (책이 하나도 없을 때만)
         if (bookRepository.count() == 0) {
-            createSampleBooks(testUser, adminUser);
+            List<Book> books = createSampleBooks(testUser, adminUser);
+            books.forEach(book -> bookEvents.publish(new BookCreated(book)));
+            catalogVersion.changed();   // 목록/검색 API ETag 갱신
         }
 
         System.out.println("=== 초기 데이터 생성 완료 ===");
@@ -62,8 +116,8 @@ public class DataInitializer implements CommandLineRunner {
     /**
      * Role이 없으면 생성
      */
-    private Role createRoleIfNotExists(String roleName) {
-        Role role = roleRepository.findByName(roleName);
+    private Role createRoleIfNotExists(Map<String, Role> roles, String roleName) {
+        Role role = roles.get(roleName);
         if (role == null) {
             role = new Role();
             role.setName(roleName);
@@ -79,7 +133,8 @@ public class DataInitializer implements CommandLineRunner {
     private Member createMemberIfNotExists(String username, String password,
                                            String name, int age, String email,
                                            Set<Role> roles) {
-        if (!memberRepository.findByUsername(username).isPresent()) {
+        // 회원당 조회는 한 번만
+        return memberRepository.findByUsername(username).orElseGet(() -> {
             Member member = new Member();
             member.setUsername(username);
             member.setPassword(passwordEncoder.encode(password));
@@ -88,17 +143,16 @@ public class DataInitializer implements CommandLineRunner {
             member.setEmail(email);
             member.setRoles(new HashSet<>(roles));
 
-            member = memberRepository.save(member);
+            Member saved = memberRepository.save(member);
             System.out.println("회원 생성됨: " + username);
-            return member;
-        }
-        return memberRepository.findByUsername(username).get();
+            return saved;
+        });
     }
 
     /**
      * 샘플 책 데이터 생성
      */
-    private void createSampleBooks(Member user, Member admin) {
+    private List<Book> createSampleBooks(Member user, Member admin) {
         // 일반 사용자가 등록한 책
         Book book1 = new Book();
         book1.setTitle("자바의 정석");
@@ -129,6 +183,7 @@ public class DataInitializer implements CommandLineRunner {
         bookRepository.save(book3);
 
         System.out.println("샘플 책 3권이 생성되었습니다.");
+        return List.of(book1, book2, book3);
     }
 
     /**
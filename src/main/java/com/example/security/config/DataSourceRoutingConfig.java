@@ -0,0 +1,95 @@
+package com.example.security.config;
+
+import com.example.security.datasource.ReadYourWritesTracker;
+import com.example.security.datasource.ReplicaRoutingDataSource;
+import com.example.security.datasource.RoutingDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (app.datasource.routing.enabled=true 일 때만)
+ *
+ * - @Transactional(readOnly = true) 트랜잭션 → 복제본 (BookService의 조회 메서드 등)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖의 조회) → 주 DB
+ *
+ * LazyConnectionDataSourceProxy는 실제 SQL을 실행할 때까지 커넥션 획득을 미룬다.
+ * 그 사이 트랜잭션 매니저가 connection.setReadOnly(true)를 호출하면 readOnlyDataSource(복제본)에서,
+ * 아니면 주 DB에서 커넥션을 얻는다.
+ *
+ * 캐시(CacheConfig)를 채우는 조회는 복제본에서 읽으면 안 된다.
+ * 수정 직후 캐시가 비워진 뒤 지연된 복제본의 이전 값이 다시 캐시에 들어가면 캐시 만료까지 남고,
+ * 이후 조회는 DB가 아니라 캐시에서 응답하므로 read-your-writes-window로도 바로잡히지 않는다.
+ * (책이면 이전 버전 때문에 수정이 계속 낙관적 잠금 실패/412, API ETag도 이전 값)
+ * 그래서 캐시를 채우는 조회는 ReplicaRoutingDataSource.readFromPrimary()로 주 DB에서 읽는다.
+ * - BookService.findById (books), MemberService.findByUsername (members), CustomUserDetailsService (users)
+ * 캐시 적중 시에는 DB를 조회하지 않으므로 주 DB에는 캐시가 비었을 때의 조회만 간다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    /**
+     * 주 DB 커넥션 풀 (spring.datasource.*, spring.datasource.hikari.*)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(RoutingDataSourceProperties routing) {
+        return new ReadYourWritesTracker(routing.getReadYourWritesWindow());
+    }
+
+    /**
+     * 복제본 커넥션 풀들 (크기와 대기 시간은 주 DB 풀과 같게)
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                      RoutingDataSourceProperties routing,
+                                                      ReadYourWritesTracker readYourWritesTracker) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            RoutingDataSourceProperties.Replica replica = routing.getReplicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(primaryDataSource.getDriverClassName());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryDataSource.getUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryDataSource.getPassword());
+            dataSource.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    /**
+     * JPA, JdbcTemplate 등이 사용하는 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+}
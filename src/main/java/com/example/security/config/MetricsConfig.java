@@ -0,0 +1,64 @@
+package com.example.security.config;
+
+import com.example.security.metrics.QueryStatsInspector;
+import com.example.security.metrics.QueryStatsInterceptor;
+import com.example.security.metrics.QueryStatsSessionListener;
+import com.example.security.metrics.RowCountingDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 요청별 SQL/지연 시간 계측 설정
+ *
+ * Hibernate에 계측용 훅을 등록한다. (com.example.security.metrics 패키지)
+ * - StatementInspector: 요청당 SQL 수, N+1 감지 (app.metrics.n-plus-one.*)
+ * - Interceptor: 엔티티 로딩 수, 트랜잭션 시간
+ * - SessionEventListener: SQL 실행 시간, 느린 쿼리 샘플링 로그
+ * DataSource도 감싸서 읽은 행 수를 센다. (RowCountingDataSource - Hibernate 밖의 JdbcTemplate SQL 포함)
+ * 수집한 값은 RequestMetricsFilter가 /actuator/prometheus 지표로 내보낸다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 애플리케이션이 사용하는 dataSource 빈을 RowCountingDataSource로 감쌈
+     * (읽기/쓰기 분리 시에는 라우팅 프록시, 아니면 Spring Boot의 커넥션 풀)
+     * 이름으로 고르므로 주 DB/복제본 풀을 한 번 더 감싸 같은 행을 두 번 세지 않는다.
+     * static: 다른 빈보다 먼저 만들어져야 하는 BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor rowCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof RowCountingDataSource)) {
+                    return new RowCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateCustomizer(
+            @Value("${app.metrics.slow-query-threshold:200ms}") Duration slowQueryThreshold,
+            @Value("${app.metrics.slow-query-sample-rate:1.0}") double slowQuerySampleRate,
+            @Value("${app.metrics.n-plus-one.threshold:10}") int nPlusOneThreshold,
+            @Value("${app.metrics.n-plus-one.mode:log}") String nPlusOneMode) {
+        QueryStatsSessionListener.configure(slowQueryThreshold.toNanos(), slowQuerySampleRate);
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    new QueryStatsInspector(nPlusOneThreshold, "fail".equalsIgnoreCase(nPlusOneMode)));
+            properties.put(AvailableSettings.INTERCEPTOR, new QueryStatsInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatsSessionListener.class.getName());
+        };
+    }
+}
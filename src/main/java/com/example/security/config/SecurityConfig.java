@@ -1,11 +1,25 @@
 package com.example.security.config;
 
+import com.example.security.auth.BoundedPasswordEncoder;
+import com.example.security.auth.LoginThrottleFilter;
+import com.example.security.auth.PasswordHashingRejectionFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+
+import java.time.Duration;
 
 /**
  * Spring Security 핵심 설정 클래스
@@ -20,6 +34,27 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity          // Spring Security 활성화 (Spring Boot 2.x 이상에서는 생략 가능)
 public class SecurityConfig {
 
+    @Value("${app.password-hashing.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    // 세션 쿠키 이름 (spring-session 기본값: SESSION, server.servlet.session.cookie.name으로 변경 가능)
+    @Value("${server.servlet.session.cookie.name:SESSION}")
+    private String sessionCookieName;
+
+    // 로그인 시도 횟수 제한 (LoginThrottleFilter)
+    @Value("${app.login-throttle.enabled:true}")
+    private boolean loginThrottleEnabled;
+    @Value("${app.login-throttle.ip-capacity:30}")
+    private int loginThrottleIpCapacity;
+    @Value("${app.login-throttle.ip-refill-period:1s}")
+    private Duration loginThrottleIpRefillPeriod;
+    @Value("${app.login-throttle.username-capacity:5}")
+    private int loginThrottleUsernameCapacity;
+    @Value("${app.login-throttle.username-refill-period:12s}")
+    private Duration loginThrottleUsernameRefillPeriod;
+    @Value("${app.login-throttle.max-entries:100000}")
+    private int loginThrottleMaxEntries;
+
     /**
      * 비밀번호 암호화기 Bean 등록
      *
@@ -28,11 +63,22 @@ public class SecurityConfig {
      * - Salt를 자동으로 생성하여 레인보우 테이블 공격 방어
      * - 강도(strength) 조절 가능 (기본값: 10)
      *
-     * @return BCryptPasswordEncoder 인스턴스
+     * BCrypt 계산은 요청 스레드가 아닌 전용 스레드 풀에서 실행한다. (BoundedPasswordEncoder)
+     * - 스레드 수: app.password-hashing.threads (기본값: CPU 코어 수)
+     * - 대기열 크기: app.password-hashing.queue-capacity
+     * - 대기열이 가득 차면 즉시 503 응답 (PasswordHashingRejectionFilter)
+     *
+     * @return 전용 스레드 풀에서 BCrypt를 실행하는 PasswordEncoder
      */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password-hashing.max-wait:5s}") Duration maxWait){
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity,
+                maxWait, meterRegistry);
         // 강도 조절 예시: new BCryptPasswordEncoder(12);
     }
 
@@ -91,13 +137,27 @@ public class SecurityConfig {
      */
     // 2️⃣ 웹 애플리케이션 (MVC)
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception{
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, MeterRegistry meterRegistry) throws Exception{
         // Spring이 주입해준 http 객체를 받아서
         // 추가 설정만 하면 됨!
 
         // TODO: 실제 보안 설정 추가 필요
         // 처음엔 기본 설정만 적용됨 (모든 요청에 인증 필요-기본 보안 설정으로 동작)
+
+        // 로그인 시도 횟수 제한: IP/아이디별 한도를 넘으면 BCrypt 검증 전에 429 응답
+        // (폼 로그인과 HTTP Basic 모두 - UsernamePasswordAuthenticationFilter가 BasicAuthenticationFilter보다 앞에 있음)
+        if (loginThrottleEnabled) {
+            http.addFilterBefore(new LoginThrottleFilter(
+                            loginThrottleIpCapacity, loginThrottleIpRefillPeriod,
+                            loginThrottleUsernameCapacity, loginThrottleUsernameRefillPeriod,
+                            loginThrottleMaxEntries, meterRegistry),
+                    UsernamePasswordAuthenticationFilter.class);
+        }
+
         http
+                // 비밀번호 해시 스레드 풀이 포화되면 503 + Retry-After 응답
+                .addFilterBefore(new PasswordHashingRejectionFilter(retryAfterSeconds),
+                        UsernamePasswordAuthenticationFilter.class)
                 /*
                     // 각 설정은 특정 Security Filter를 생성합니다
                         http.authorizeHttpRequests()  → AuthorizationFilter
@@ -129,16 +189,32 @@ public class SecurityConfig {
                 // ====== 1. URL별 접근 권한 설정 ======
                 // 🔐 HTTP 요청 인증/인가 설정
                 .authorizeHttpRequests(authz -> authz          // authorizeRequests()는 deprecated됨
+                        // /api/admin/** 경로: 관리자만 접근 가능 (대량 등록 등)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                         // /api/** 경로: 인증된 사용자만 접근 가능 (로그인 필수)
                         .requestMatchers("/api/**").authenticated()
 
                         // /book/** 경로: 인증된 사용자만 접근 가능 (책 관련 기능)
                         .requestMatchers("/book/**").authenticated()
 
+                        // /ui/list/all 경로: 전체 목록 보기는 관리자만 접근 가능
+                        .requestMatchers("/ui/list/all").hasRole("ADMIN")
+
                         // 그 외 모든 요청: 인증 없이 접근 가능 (회원가입, 메인페이지 등)
                         .anyRequest().permitAll()
                 )
 
+                // ====== API 인증 ======
+                // /api/** 는 스크립트/앱에서 호출하므로 HTTP Basic 인증도 허용한다.
+                // CSRF 토큰은 Authorization: Basic 헤더를 직접 보낸 /api 요청에서만 생략한다.
+                // (브라우저는 교차 사이트 요청에 Authorization 헤더를 임의로 붙일 수 없음 - CORS 사전 요청에서 차단)
+                // 세션 쿠키로 인증된 /api 쓰기 요청은 폼과 똑같이 CSRF 토큰(X-CSRF-TOKEN 헤더)이 필요하다.
+                .httpBasic(Customizer.withDefaults())
+                .csrf(csrf -> csrf.ignoringRequestMatchers(new AndRequestMatcher(
+                        PathPatternRequestMatcher.withDefaults().matcher("/api/**"),
+                        SecurityConfig::hasBasicAuthorization)))
+
                 // ====== 2. 폼 로그인 설정 ======
                 .formLogin(form -> form
                         // 커스텀 로그인 페이지 지정 (기본값: /login)
@@ -178,7 +254,8 @@ public class SecurityConfig {
                         .clearAuthentication(true)
 
                         // 세션 쿠키 삭제 (브라우저의 세션 식별자 제거)
-                        .deleteCookies("JSESSIONID")
+                        // spring-session-jdbc가 HttpSession을 대신하므로 JSESSIONID가 아니라 SESSION 쿠키
+                        .deleteCookies(sessionCookieName)
 
                         // 서버의 HttpSession 무효화 (세션 데이터 완전 삭제)
                         .invalidateHttpSession(true)
@@ -194,4 +271,10 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Authorization: Basic ... 헤더가 있는 요청 (세션 없이 매 요청 인증하는 API 클라이언트)
+    private static boolean hasBasicAuthorization(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return header != null && header.regionMatches(true, 0, "Basic ", 0, 6);
+    }
+
 }
\ No newline at end of file
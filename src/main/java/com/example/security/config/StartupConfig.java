@@ -0,0 +1,25 @@
+package com.example.security.config;
+
+import com.example.security.counter.MemberBookCounter;
+import com.example.security.metrics.VirtualThreadPinningMonitor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시작 설정
+ *
+ * spring.main.lazy-initialization=true (fast 프로필) 이어도 즉시 만들어야 하는 빈.
+ * 다른 빈이 주입받지 않고 스스로 동작하는 빈은 지연 생성하면 영영 만들어지지 않는다.
+ * - VirtualThreadPinningMonitor: 시작 시 JFR 기록을 시작
+ * - MemberBookCounter: @Scheduled 반영/대사
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                VirtualThreadPinningMonitor.class, MemberBookCounter.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.security.config;
+
+import com.example.security.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+/**
+ * 요청/비동기 작업 스레드 설정
+ *
+ * 기본은 플랫폼 스레드 (Tomcat 스레드 풀, applicationTaskExecutor).
+ * spring.threads.virtual.enabled=true (virtual 프로필) 이면 Spring Boot가
+ * Tomcat 요청 처리와 @Async 작업(applicationTaskExecutor)을 가상 스레드로 실행한다.
+ * - BCrypt 해시는 CPU 작업이므로 가상 스레드 모드에서도 BoundedPasswordEncoder의 전용 풀에서 실행
+ * - DB 동시 사용량은 Hikari 커넥션 풀 크기로 제한
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+@EnableScheduling   // 주기 작업 (MemberBookCounter의 반영/대사)
+public class ThreadingConfig {
+
+    /**
+     * 가상 스레드 고정(pinning) 감시 (JDK 21 이상 + 가상 스레드 모드에서만 등록)
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+
+    /**
+     * 가상 스레드를 켰지만 JDK가 21 미만이라 적용되지 않은 경우 알림
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warnIfVirtualThreadsUnavailable(ApplicationReadyEvent event) {
+        boolean requested = event.getApplicationContext().getEnvironment()
+                .getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (requested && Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled=true 이지만 JDK {} 에서는 가상 스레드를 사용할 수 없어 플랫폼 스레드로 실행합니다. (JDK 21 이상 필요)",
+                    Runtime.version().feature());
+        }
+    }
+}
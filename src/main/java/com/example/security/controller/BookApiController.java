@@ -0,0 +1,230 @@
+package com.example.security.controller;
+
+import com.example.security.dto.BookBrowseResult;
+import com.example.security.dto.BookCursor;
+import com.example.security.dto.BookPage;
+import com.example.security.dto.BookRequest;
+import com.example.security.dto.BookResponse;
+import com.example.security.dto.BookSummary;
+import com.example.security.dto.Suggestion;
+import com.example.security.entity.Book;
+import com.example.security.service.BookCatalogVersion;
+import com.example.security.service.BookNotFoundException;
+import com.example.security.service.BookService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 책 REST API (/api/** : 인증 필요, 세션 또는 HTTP Basic)
+ *
+ * GET    /api/books?after=&before=&size=  목록 (키셋 페이지네이션)
+ * GET    /api/books/search?q=             검색
+ * GET    /api/books/browse?price=&page=&author=&after=&size=  패싯 탐색 (가격대, 페이지 수, 저자)
+ * GET    /api/books/suggest?q=&limit=     자동완성 (입력 중인 접두사 → 제목/저자, 한글 초성 가능)
+ * GET    /api/books/{id}                  상세
+ * POST   /api/books                       등록
+ * PUT    /api/books/{id}                  수정 (If-Match: 상세 조회 때 받은 ETag 필수, 없으면 428)
+ * DELETE /api/books/{id}                  삭제
+ *
+ * 조건부 GET: 응답마다 ETag, Last-Modified를 주고, 클라이언트가 If-None-Match로 다시 보내면
+ * 바뀐 것이 없을 때 본문 없이 304를 반환한다. (Cache-Control: no-cache, private → 매번 재검증)
+ * 요청 본문이 올바르지 않거나(BookRequest 검증) 커서가 잘못되면 400, 책이 없으면 404.
+ * - 목록/검색/탐색/자동완성: 카탈로그 버전(BookCatalogVersion, 메모리 값) 비교 → 304이면 DB 조회 없음
+ *   검색/탐색/자동완성은 메모리 색인의 반영 위치도 비교 (색인 반영 전 결과가 계속 재사용되지 않도록)
+ * - 상세: 책 버전(@Version) 비교, 책은 books 캐시에서 조회 → 캐시 적중 시 DB 조회 없음
+ */
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class BookApiController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final Pattern BOOK_ETAG = Pattern.compile("\"b(\\d+)-v(\\d+)\"");
+
+    private final BookService bookService;
+    private final BookCatalogVersion catalogVersion;
+
+    @GetMapping
+    public ResponseEntity<BookPage<BookSummary>> list(@RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) String before,
+                                                      @RequestParam(defaultValue = "" + BookService.DEFAULT_PAGE_SIZE) int size,
+                                                      ServletWebRequest request) {
+        if (catalogNotModified(request)) {
+            return null;   // 304
+        }
+        return ResponseEntity.ok(bookService.findPage(BookCursor.decode(after), BookCursor.decode(before), size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<BookSummary>> search(@RequestParam String q, ServletWebRequest request) {
+        if (indexNotModified(request)) {
+            return null;   // 304
+        }
+        return ResponseEntity.ok(bookService.search(q));
+    }
+
+    @GetMapping("/browse")
+    public ResponseEntity<BookBrowseResult> browse(@RequestParam(name = "price", required = false) Set<Integer> prices,
+                                                   @RequestParam(name = "page", required = false) Set<Integer> pages,
+                                                   @RequestParam(name = "author", required = false) Set<String> authors,
+                                                   @RequestParam(required = false) Long after,
+                                                   @RequestParam(defaultValue = "" + BookService.DEFAULT_PAGE_SIZE) int size,
+                                                   ServletWebRequest request) {
+        if (indexNotModified(request)) {
+            return null;   // 304
+        }
+        return ResponseEntity.ok(bookService.browse(prices != null ? prices : Set.of(),
+                pages != null ? pages : Set.of(), authors != null ? authors : Set.of(), after, size));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Suggestion>> suggest(@RequestParam(defaultValue = "") String q,
+                                                    @RequestParam(defaultValue = "10") int limit,
+                                                    ServletWebRequest request) {
+        if (indexNotModified(request)) {
+            return null;   // 304
+        }
+        return ResponseEntity.ok(bookService.suggest(q, limit));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BookResponse> get(@PathVariable Long id, ServletWebRequest request) {
+        Book book = bookService.findById(id);   // books 캐시
+        if (notModified(request, eTag(book), toMillis(book.getUpdatedAt()))) {
+            return null;   // 304
+        }
+        return ResponseEntity.ok(BookResponse.from(book));
+    }
+
+    @PostMapping
+    public ResponseEntity<BookResponse> create(@Valid @RequestBody BookRequest body) {
+        Book saved = bookService.register(body.toBook());
+        return ResponseEntity.created(URI.create("/api/books/" + saved.getId()))
+                .eTag(eTag(saved))
+                .body(BookResponse.from(saved));
+    }
+
+    /**
+     * 수정 - If-Match의 버전일 때만 수정 (다르면 412, 없으면 428)
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Void> update(@PathVariable Long id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                       @Valid @RequestBody BookRequest body) {
+        Book book = body.toBook();
+        book.setVersion(versionOf(id, ifMatch));
+        bookService.update(id, book);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        bookService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(BookNotFoundException.class)
+    public ProblemDetail notFound(BookNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ProblemDetail invalidBody(MethodArgumentNotValidException e) {
+        String detail = e.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining(" "));
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail badRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(SecurityException.class)
+    public ProblemDetail forbidden(SecurityException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, e.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ProblemDetail preconditionFailed(ObjectOptimisticLockingFailureException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED,
+                "다른 곳에서 먼저 수정되었습니다. 다시 조회한 뒤 수정해주세요.");
+    }
+
+    // 목록: 카탈로그 버전으로 조건부 GET 확인
+    private boolean catalogNotModified(ServletWebRequest request) {
+        BookCatalogVersion.Snapshot catalog = catalogVersion.current();
+        return notModified(request, catalog.eTag(), catalog.lastModified());
+    }
+
+    // 검색/탐색/자동완성: 카탈로그 버전 + 이 서버의 색인 반영 위치로 확인
+    private boolean indexNotModified(ServletWebRequest request) {
+        BookCatalogVersion.Snapshot catalog = catalogVersion.currentIndexed();
+        return notModified(request, catalog.eTag(), catalog.lastModified());
+    }
+
+    /**
+     * Cache-Control을 설정하고 If-None-Match / If-Modified-Since를 확인
+     * (일치하면 304로 응답이 끝나고, 아니면 ETag, Last-Modified 헤더가 설정된다)
+     */
+    private boolean notModified(ServletWebRequest request, String eTag, long lastModified) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        }
+        return request.checkNotModified(eTag, lastModified);
+    }
+
+    // 책 ETag, 예: "b42-v3" (책 id + 버전)
+    private static String eTag(Book book) {
+        return "\"b" + book.getId() + "-v" + book.getVersion() + "\"";
+    }
+
+    // If-Match의 ETag에서 버전을 꺼냄
+    // 없거나 "*"이면 다른 사람의 수정을 모르고 덮어쓸 수 있으므로 428 (Precondition Required)
+    private static Long versionOf(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED,
+                    "If-Match 헤더에 상세 조회 때 받은 ETag를 보내야 합니다.");
+        }
+        Matcher matcher = BOOK_ETAG.matcher(ifMatch.trim());
+        if (!matcher.matches() || !matcher.group(1).equals(String.valueOf(id))) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match 값이 이 책의 ETag가 아닙니다.");
+        }
+        return Long.valueOf(matcher.group(2));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
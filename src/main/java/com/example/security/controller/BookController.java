@@ -1,14 +1,19 @@
 package com.example.security.controller;
 
+import com.example.security.dto.BookBrowseResult;
+import com.example.security.dto.BookSummary;
 import com.example.security.entity.Book;
 import com.example.security.service.BookService;
+import com.example.security.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * 책 관련 웹 요청을 처리하는 컨트롤러
@@ -23,14 +28,14 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final MemberService memberService;
 
     /**
      * 책 목록 조회 (메인 화면에 통합)
      */
     @GetMapping("/list")
-    public String list(Model model) {
-        List<Book> books = bookService.findAll();
-        model.addAttribute("books", books);
+    public String list() {
+        // 목록 조회는 메인 화면에서 페이지 단위로 처리하므로 여기서는 조회하지 않음
         return "redirect:/ui/list";  // 메인 화면으로 리다이렉트
     }
 
@@ -99,6 +104,10 @@ public class BookController {
         } catch (SecurityException e) {
             redirectAttributes.addFlashAttribute("errorMessage",
                     e.getMessage());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 수정 폼을 연 뒤 다른 곳에서 먼저 수정함 (version 불일치)
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "다른 사용자가 먼저 수정했습니다. 최신 내용을 확인한 뒤 다시 수정해주세요.");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage",
                     "수정 중 오류가 발생했습니다: " + e.getMessage());
@@ -131,12 +140,48 @@ public class BookController {
      */
     @GetMapping("/mybooks")
     public String myBooks(Model model) {
-        List<Book> myBooks = bookService.findMyBooks();
+        List<BookSummary> myBooks = bookService.findMyBooks();
         model.addAttribute("books", myBooks);
         model.addAttribute("pageTitle", "내가 등록한 책");
+        model.addAttribute("bookCount", bookService.countMyBooks());
         return "book/list";  // book/list.html
     }
 
+    /**
+     * 책을 많이 등록한 회원 순위
+     */
+    @GetMapping("/contributors")
+    public String contributors(@RequestParam(defaultValue = "10") int size, Model model) {
+        model.addAttribute("contributors", memberService.findTopContributors(size));
+        return "book/contributors";  // book/contributors.html
+    }
+
+    /**
+     * 패싯 탐색 (가격대, 페이지 수, 저자로 좁혀 보기)
+     * 예) /book/browse?price=1&price=2&author=남궁성
+     */
+    @GetMapping("/browse")
+    public String browse(@RequestParam(name = "price", required = false) Set<Integer> prices,
+                         @RequestParam(name = "page", required = false) Set<Integer> pages,
+                         @RequestParam(name = "author", required = false) Set<String> authors,
+                         @RequestParam(required = false) Long after,
+                         @RequestParam(defaultValue = "" + BookService.DEFAULT_PAGE_SIZE) int size,
+                         Model model) {
+        BookBrowseResult result = bookService.browse(orEmpty(prices), orEmpty(pages), orEmpty(authors), after, size);
+        model.addAttribute("result", result);
+        model.addAttribute("books", result.getBooks());
+        model.addAttribute("size", size);
+        // 다음 페이지 링크에 현재 조건을 그대로 넘기기 위해 사용
+        model.addAttribute("prices", orEmpty(prices));
+        model.addAttribute("pages", orEmpty(pages));
+        model.addAttribute("authors", orEmpty(authors));
+        return "book/browse";  // book/browse.html
+    }
+
+    private static <T> Set<T> orEmpty(Set<T> values) {
+        return values != null ? values : Set.of();
+    }
+
     /**
      * 책 검색
      */
@@ -144,7 +189,7 @@ public class BookController {
     public String search(@RequestParam(required = false) String title,
                          Model model) {
         if (title != null && !title.trim().isEmpty()) {
-            List<Book> books = bookService.searchByTitle(title);
+            List<BookSummary> books = bookService.search(title);  // 제목, 저자, 설명 통합 검색
             model.addAttribute("books", books);
             model.addAttribute("searchKeyword", title);
         }
@@ -0,0 +1,64 @@
+package com.example.security.controller;
+
+import com.example.security.dto.BookFileFormat;
+import com.example.security.service.BookExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 책 전체 내보내기 API (/api/** : 인증 필요)
+ *
+ * 예) GET /api/books/export?format=ndjson&gzip=true
+ * - format: csv(기본값) | ndjson (그 밖의 값은 400)
+ * - gzip: true이면 gzip으로 압축한 파일(.gz)로 내려준다.
+ */
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class BookExportController {
+
+    private final BookExportService bookExportService;
+
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "csv") String format,
+                       @RequestParam(defaultValue = "false") boolean gzip,
+                       HttpServletResponse response) throws IOException {
+        BookFileFormat fileFormat;
+        try {
+            fileFormat = BookFileFormat.of(format);
+        } catch (IllegalArgumentException e) {
+            // 응답을 쓰기 전에 검사하므로 400으로 바로 돌려줄 수 있다.
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        String filename = fileFormat == BookFileFormat.CSV ? "books.csv" : "books.ndjson";
+        String contentType = fileFormat == BookFileFormat.CSV
+                ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8";
+
+        if (gzip) {
+            filename += ".gz";
+            contentType = "application/gzip";
+        }
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+                bookExportService.export(gzipOut, fileFormat);
+            }
+        } else {
+            bookExportService.export(out, fileFormat);
+        }
+    }
+}
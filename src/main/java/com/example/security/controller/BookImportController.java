@@ -0,0 +1,45 @@
+package com.example.security.controller;
+
+import com.example.security.dto.BookFileFormat;
+import com.example.security.dto.BookImportResult;
+import com.example.security.entity.CustomerMember;
+import com.example.security.service.BookImportService;
+import com.example.security.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 책 대량 등록 API (관리자 전용)
+ *
+ * 요청 본문을 그대로 스트림으로 읽어 처리한다. (multipart 아님)
+ *   curl -u admin:admin123 -H "Content-Type: text/csv" --data-binary @books.csv .../api/admin/books/import
+ *   curl -u admin:admin123 -H "Content-Type: application/x-ndjson" --data-binary @books.ndjson .../api/admin/books/import
+ */
+@RestController
+@RequestMapping("/api/admin/books")
+@RequiredArgsConstructor
+public class BookImportController {
+
+    private final BookImportService bookImportService;
+    private final MemberService memberService;
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public BookImportResult importCsv(HttpServletRequest request,
+                                      @AuthenticationPrincipal CustomerMember principal) throws IOException {
+        return bookImportService.importBooks(request.getInputStream(),
+                BookFileFormat.CSV, memberService.findByUsername(principal.getUsername()).toReference());
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public BookImportResult importNdjson(HttpServletRequest request,
+                                         @AuthenticationPrincipal CustomerMember principal) throws IOException {
+        return bookImportService.importBooks(request.getInputStream(),
+                BookFileFormat.NDJSON, memberService.findByUsername(principal.getUsername()).toReference());
+    }
+}
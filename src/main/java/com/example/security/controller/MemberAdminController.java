@@ -0,0 +1,72 @@
+package com.example.security.controller;
+
+import com.example.security.service.MemberService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+
+/**
+ * 회원 관리 API (관리자 전용, /api/admin/**)
+ *
+ * PUT /api/admin/members/{username}/roles      권한 변경, 본문 예) ["USER", "ADMIN"]
+ * PUT /api/admin/members/{username}/password   비밀번호 변경, 본문 예) {"password": "new-password"}
+ *
+ * 변경이 커밋되면 로그인 캐시(users)와 회원 캐시(members)를 비우므로 다음 로그인/HTTP Basic 인증부터 반영된다.
+ * 이미 로그인한 세션은 다시 로그인할 때까지 이전 권한을 유지한다.
+ * 회원이 없으면 404, 없는 권한명이거나 본문이 올바르지 않으면 400.
+ */
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+public class MemberAdminController {
+
+    private final MemberService memberService;
+
+    @PutMapping("/{username}/roles")
+    public ResponseEntity<Void> changeRoles(@PathVariable String username, @RequestBody Set<String> roles) {
+        memberService.changeRoles(username, roles);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{username}/password")
+    public ResponseEntity<Void> changePassword(@PathVariable String username,
+                                               @Valid @RequestBody PasswordRequest request) {
+        memberService.changePassword(username, request.password());
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(UsernameNotFoundException.class)
+    public ProblemDetail notFound(UsernameNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ProblemDetail invalid(MethodArgumentNotValidException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "새 비밀번호는 4~100자여야 합니다.");
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail badRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    /**
+     * @param password 새 비밀번호 (평문, 저장 전에 BCrypt로 암호화)
+     */
+    public record PasswordRequest(@NotBlank @Size(min = 4, max = 100) String password) {
+    }
+}
@@ -1,15 +1,26 @@
 package com.example.security.controller;
 
-import com.example.security.entity.Book;
+import com.example.security.dto.BookCursor;
+import com.example.security.dto.BookPage;
+import com.example.security.dto.BookSummary;
 import com.example.security.entity.Member;
 import com.example.security.service.BookService;
 import com.example.security.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
 
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.List;
 
 @Controller
@@ -18,6 +29,7 @@ public class MemberController {
 
     private final MemberService memberService;
     private final BookService bookService;  // BookService 추가
+    private final SpringTemplateEngine templateEngine;
 
     @GetMapping("/register")
     public String register(){
@@ -33,17 +45,53 @@ public class MemberController {
 
     /**
      * 메인 페이지 - 책 목록 포함
+     *
+     * 전체 목록 대신 한 페이지씩 조회한다. (키셋 페이지네이션)
+     * - /ui/list              : 첫 페이지
+     * - /ui/list?after=커서    : 다음 페이지
+     * - /ui/list?before=커서   : 이전 페이지
      */
     @GetMapping("/ui/list")
-    public String main(Model model){
+    public String main(@RequestParam(required = false) String after,
+                       @RequestParam(required = false) String before,
+                       @RequestParam(defaultValue = "" + BookService.DEFAULT_PAGE_SIZE) int size,
+                       Model model){
         try {
-            // 책 목록을 조회하여 모델에 추가
-            List<Book> books = bookService.findAll();
-            model.addAttribute("books", books);
+            // 책 목록 한 페이지를 조회하여 모델에 추가
+            BookPage<BookSummary> page = bookService.findPage(
+                    BookCursor.decode(after), BookCursor.decode(before), size);
+            model.addAttribute("books", page.getContent());
+            model.addAttribute("page", page);
+            model.addAttribute("size", size);
         } catch (Exception e) {
             // 책 서비스가 아직 준비되지 않은 경우 빈 목록 전달
             model.addAttribute("books", List.of());
         }
         return "list"; // list.html
     }
-}
\ No newline at end of file
+
+    /**
+     * 전체 책 목록 (관리자용, 스트리밍 렌더링)
+     *
+     * 일반적인 뷰 렌더링은 컨트롤러가 반환된 뒤에 실행되므로
+     * (open-in-view: false) 트랜잭션과 DB 커서가 이미 닫혀 있다.
+     * 그래서 트랜잭션 안에서 템플릿을 직접 응답 스트림에 렌더링한다.
+     * - 책은 DB에서 읽는 즉시 HTML로 출력되고 버퍼가 차면 바로 브라우저로 전송된다.
+     * - 전체 목록을 메모리에 올리지 않으므로 책 수와 관계없이 힙 사용량이 일정하다.
+     */
+    @GetMapping("/ui/list/all")
+    public void listAll(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("text/html;charset=UTF-8");
+        IWebExchange exchange = JakartaServletWebApplication
+                .buildApplication(request.getServletContext())
+                .buildExchange(request, response);
+        WebContext context = new WebContext(exchange, request.getLocale());
+        PrintWriter writer = response.getWriter();
+
+        bookService.streamAll(books -> {
+            context.setVariable("books", books);
+            templateEngine.process("list-all", context, writer);  // list-all.html
+        });
+        writer.flush();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.security.counter;
+
+import com.example.security.event.BookCreated;
+import com.example.security.event.BookDeleted;
+import com.example.security.event.BookEvent;
+import com.example.security.event.BookEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원별 등록 도서 수 (member.bookCount)
+ *
+ * 책을 등록/삭제할 때마다 member 행을 UPDATE 하면 같은 회원의 등록이 몰릴 때 행 잠금을 기다리게 된다.
+ * 대신 메모리에서 증감을 모아 두었다가 주기적으로 한 번에 반영한다.
+ * - 증감: 회원별 LongAdder (스레드별로 나뉜 셀에 더하므로 동시에 등록해도 경합이 없음)
+ *   책 등록/삭제 이벤트(BookEventBus)로 받으므로 커밋된 변경만 반영
+ * - 반영(flush): 모인 증감을 "bookCount = bookCount + ?" 배치 UPDATE 한 번으로 저장 (app.book-count.flush-interval)
+ *   book 테이블을 다시 세지 않으므로 반영 비용은 바뀐 회원 수에만 비례
+ * - 대사(reconcile): 시작 시와 주기적으로 실제 COUNT와 다른 행만 바로잡음 (app.book-count.reconcile-interval)
+ *   flush와 같은 flushLock 안에서 남은 증감을 먼저 반영한 뒤 세므로, 대사가 센 책의 증감이 다시 더해지지 않는다.
+ *   반영 실패 등으로 생긴 어긋남은 대사에서만 바로잡는다.
+ * - 순위표: 상위 LEADERBOARD_SIZE명만 유지하는 TopKLeaderboard (GROUP BY 정렬 없음)
+ * 반영 전 증감도 getCount()에 포함되므로 화면에는 바로 보인다.
+ * 메모리 값은 서버(인스턴스)별로 관리되며, 다른 서버가 반영한 값은 다음 대사 때 읽어 온다.
+ */
+@Slf4j
+@Component
+public class MemberBookCounter implements BookEventListener {
+
+    public static final int LEADERBOARD_SIZE = 100;
+
+    private static final String ADD_SQL = "UPDATE member SET bookCount = bookCount + ? WHERE id = ?";
+    // 실제 개수와 다른 행만 수정 (수정된 행 수 = 어긋났던 회원 수)
+    private static final String RECONCILE_SQL =
+            "UPDATE member m SET bookCount = (SELECT COUNT(*) FROM book b WHERE b.member_id = m.id) " +
+            "WHERE m.bookCount <> (SELECT COUNT(*) FROM book b WHERE b.member_id = m.id)";
+    private static final String LOAD_SQL = "SELECT id, bookCount FROM member";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repaired;
+
+    // 아직 DB에 반영하지 않은 증감 (회원 id → 증감)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB에 반영된 값 (flush/reconcile에서만 변경)
+    private final Map<Long, Long> flushed = new ConcurrentHashMap<>();
+    private final TopKLeaderboard leaderboard = new TopKLeaderboard(LEADERBOARD_SIZE);
+    // flush와 reconcile이 동시에 실행되지 않도록
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public MemberBookCounter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repaired = Counter.builder("member.book_count.repaired")
+                .description("대사(reconcile)에서 바로잡은 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 책 등록/삭제 이벤트 반영 (수정은 등록자가 바뀌지 않으므로 무시)
+     */
+    @Override
+    public void onEvents(List<BookEvent> events) {
+        for (BookEvent event : events) {
+            if (event instanceof BookCreated created) {
+                accumulate(created.getMemberId(), 1);
+            } else if (event instanceof BookDeleted deleted) {
+                accumulate(deleted.getMemberId(), -1);
+            }
+        }
+    }
+
+    /**
+     * 회원의 등록 도서 수 (아직 반영하지 않은 증감 포함, DB 조회 없음)
+     */
+    public long getCount(Long memberId) {
+        LongAdder delta = pending.get(memberId);
+        return flushed.getOrDefault(memberId, 0L) + (delta != null ? delta.sum() : 0);
+    }
+
+    /**
+     * 등록 도서 수 상위 회원 (회원 id → 도서 수, 많은 순)
+     * 순위는 마지막 flush 기준이며 개수는 반영 전 증감을 포함한다.
+     */
+    public Map<Long, Long> top(int limit) {
+        Map<Long, Long> result = new LinkedHashMap<>();
+        for (TopKLeaderboard.Entry entry : leaderboard.top(limit)) {
+            result.put(entry.getMemberId(), getCount(entry.getMemberId()));
+        }
+        return result;
+    }
+
+    /**
+     * 모인 증감을 배치 UPDATE로 반영
+     */
+    @Scheduled(fixedDelayString = "${app.book-count.flush-interval:2s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushInternal();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 실제 책 수와 어긋난 회원을 바로잡고 메모리 값/순위표를 DB에서 다시 읽음
+     * (반영이 실패했거나 다른 경로로 book 테이블이 바뀐 경우)
+     */
+    @Scheduled(initialDelayString = "${app.book-count.reconcile-interval:10m}",
+            fixedDelayString = "${app.book-count.reconcile-interval:10m}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        flushLock.lock();
+        try {
+            flushInternal();   // 남은 증감을 먼저 반영해야 아래에서 센 실제 값에 나중에 다시 더해지지 않음
+            int count = jdbcTemplate.update(RECONCILE_SQL);
+            Map<Long, Long> loaded = new HashMap<>();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                loaded.put(rs.getLong(1), rs.getLong(2));
+            });
+            flushed.keySet().retainAll(loaded.keySet());
+            flushed.putAll(loaded);
+            leaderboard.rebuild(loaded);
+            leaderboard.publish();
+            if (count > 0) {
+                repaired.increment(count);
+                log.warn("회원 도서 수 대사: {}명 수정", count);
+            }
+            log.debug("회원 도서 수 대사 완료: 회원 {}명, {}ms", loaded.size(), System.currentTimeMillis() - start);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 시작 시 대사 (기존 데이터에 bookCount가 없거나 이전 실행의 증감이 유실된 경우)
+     * BookEventBus 소비 스레드에서 첫 이벤트 전에 실행된다.
+     */
+    @Override
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 종료 전 남은 증감 반영
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void accumulate(Long memberId, long delta) {
+        if (memberId == null) {
+            return;
+        }
+        pending.computeIfAbsent(memberId, id -> new LongAdder()).add(delta);
+    }
+
+    // flushLock을 잡은 상태에서 호출
+    private void flushInternal() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sum();
+            if (delta != 0) {
+                // sumThenReset()은 그 사이 더해진 값을 잃을 수 있으므로 읽은 만큼만 뺀다.
+                e.getValue().add(-delta);
+                batch.add(new Object[]{delta, e.getKey()});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            // 한 트랜잭션으로 반영 (일부만 반영된 채 실패해서 재시도 때 두 번 더해지지 않도록)
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_SQL, batch));
+        } catch (RuntimeException ex) {
+            // 화면에 보이는 값이 줄지 않도록 증감을 되돌리고 다음 flush에서 다시 시도
+            batch.forEach(row -> accumulate((Long) row[1], (Long) row[0]));
+            log.warn("회원 도서 수 반영 실패 ({}명), 다음 주기에 재시도: {}", batch.size(), ex.getMessage());
+            return;
+        }
+
+        boolean consistent = true;
+        for (Object[] row : batch) {
+            long memberId = (Long) row[1];
+            long count = flushed.merge(memberId, (Long) row[0], Long::sum);
+            consistent &= leaderboard.update(memberId, count);
+        }
+        if (!consistent) {
+            leaderboard.rebuild(flushed);
+        }
+        leaderboard.publish();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.security.counter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * 개수 상위 K명만 유지하는 순위표
+ *
+ * 전체 회원을 정렬(GROUP BY ... ORDER BY)하지 않고 상위 K개만 정렬된 상태로 들고 있는다.
+ * - 늘어난 값: 순위표 최솟값보다 크면 들어오고 최솟값이 밀려남 - O(log K)
+ * - 순위표 안의 값이 최솟값 아래로 줄면 밖의 누가 더 큰지 알 수 없으므로 false 반환 → 호출자가 rebuild
+ * 쓰기는 한 스레드(MemberBookCounter의 flush)에서만 하고, 읽기는 변경 후 만든 스냅샷을 사용한다.
+ */
+class TopKLeaderboard {
+
+    /**
+     * 순위표 한 칸
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class Entry {
+        private final long memberId;
+        private final long count;
+    }
+
+    // 개수 내림차순, 같으면 id 오름차순 (먼저 가입한 회원 우선)
+    private static final Comparator<Entry> RANKING =
+            Comparator.comparingLong(Entry::getCount).reversed().thenComparingLong(Entry::getMemberId);
+
+    private final int capacity;
+    private final TreeSet<Entry> ranked = new TreeSet<>(RANKING);
+    private final Map<Long, Entry> byMember = new HashMap<>();
+    private volatile List<Entry> snapshot = List.of();
+
+    TopKLeaderboard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 회원의 새 개수를 반영
+     *
+     * 불변식: 순위표가 가득 차 있으면 밖에 있는 회원의 개수는 모두 순위표 최솟값 이하
+     *
+     * @return false면 순위표를 보장할 수 없으므로 rebuild 필요
+     */
+    boolean update(long memberId, long count) {
+        Entry previous = byMember.remove(memberId);
+        Entry lowest = ranked.isEmpty() ? null : ranked.last();
+        if (previous != null) {
+            ranked.remove(previous);
+            if (ranked.size() + 1 >= capacity && count < lowest.getCount()) {
+                return false;   // 가득 찬 순위표에서 최솟값 아래로 줄어듦
+            }
+        }
+        if (count <= 0) {
+            return true;
+        }
+        Entry entry = new Entry(memberId, count);
+        if (ranked.size() < capacity) {
+            add(entry);
+        } else if (RANKING.compare(entry, ranked.last()) < 0) {
+            byMember.remove(ranked.pollLast().getMemberId());
+            add(entry);
+        }
+        return true;
+    }
+
+    /**
+     * 전체 개수에서 다시 만들기 - 크기 K인 최소 힙으로 O(n log K)
+     */
+    void rebuild(Map<Long, Long> counts) {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(capacity + 1, RANKING.reversed());
+        counts.forEach((memberId, count) -> {
+            if (count > 0) {
+                heap.offer(new Entry(memberId, count));
+                if (heap.size() > capacity) {
+                    heap.poll();
+                }
+            }
+        });
+        ranked.clear();
+        byMember.clear();
+        heap.forEach(this::add);
+    }
+
+    /**
+     * 변경 내용을 읽기용 스냅샷으로 공개 (update/rebuild 후 호출)
+     */
+    void publish() {
+        snapshot = List.copyOf(ranked);
+    }
+
+    /**
+     * 상위 limit명 (마지막 publish 시점 기준)
+     */
+    List<Entry> top(int limit) {
+        List<Entry> current = snapshot;
+        return new ArrayList<>(current.subList(0, Math.min(limit, current.size())));
+    }
+
+    private void add(Entry entry) {
+        ranked.add(entry);
+        byMember.put(entry.getMemberId(), entry);
+    }
+}
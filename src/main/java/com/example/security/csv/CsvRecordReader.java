@@ -0,0 +1,109 @@
+package com.example.security.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 레코드 리더 (RFC 4180)
+ *
+ * 파일 전체를 읽지 않고 레코드 하나씩 반환한다.
+ * - 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, "" (따옴표 이스케이프) 지원
+ * - 줄바꿈은 \n, \r\n 모두 허용
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;   // BufferedReader 등 버퍼가 있는 Reader 사용
+    private long line = 1;         // 현재 읽는 위치의 줄 번호
+    private long recordLine;       // 마지막으로 반환한 레코드가 시작된 줄 번호
+    private int pushedBack = -2;   // 한 글자 되돌리기 (-2: 없음)
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽는다.
+     *
+     * @return 필드 목록, 파일 끝이면 null
+     * @throws IllegalArgumentException 따옴표가 닫히지 않은 경우
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        // 빈 줄은 건너뜀
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');     // "" → "
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        unread(n);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 반환한 레코드의 시작 줄 번호
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != -2) {
+            c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.security.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * 자신이 쓴 데이터 읽기(Read-Your-Writes) 보장
+ *
+ * 복제본은 주 DB보다 늦게 반영되므로, 책을 등록한 직후 목록을 보면 방금 등록한 책이 없을 수 있다.
+ * 쓰기 트랜잭션이 커밋되면 해당 회원을 일정 시간(window) 동안 기록해 두고,
+ * 그동안은 그 회원의 읽기 전용 트랜잭션도 주 DB로 보낸다.
+ * - 트랜잭션 매니저의 실행 리스너로 등록되어 모든 커밋을 관찰 (Spring Boot가 자동 등록)
+ * - 로그인하지 않은 요청은 기록하지 않는다.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            String username = currentUsername();
+            if (username != null) {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * 현재 사용자가 최근에 쓰기를 했는지 (true면 주 DB에서 읽어야 함)
+     */
+    public boolean isRecentWriter() {
+        String username = currentUsername();
+        return username != null && recentWriters.getIfPresent(username) != null;
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
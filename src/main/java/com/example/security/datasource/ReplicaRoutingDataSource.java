@@ -0,0 +1,91 @@
+package com.example.security.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 커넥션을 복제본 중 하나로 보내는 DataSource
+ *
+ * LazyConnectionDataSourceProxy의 readOnlyDataSource로 사용된다.
+ * (@Transactional(readOnly = true) 트랜잭션에서만 여기서 커넥션을 얻음)
+ * - 복제본은 순서대로 돌아가며 사용 (round-robin)
+ * - 최근에 쓰기를 한 회원이면 주 DB 커넥션을 반환 (ReadYourWritesTracker)
+ * - readFromPrimary() 안에서 실행한 조회도 주 DB 커넥션을 반환 (캐시를 채우는 조회)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica-";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final List<DataSource> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("복제본 DataSource가 하나 이상 필요합니다.");
+        }
+        this.replicas = replicas;
+        this.tracker = tracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이어도 주 DB에서 읽음 (읽기/쓰기 분리를 쓰지 않으면 그냥 실행)
+     *
+     * 캐시를 채우는 조회용이다. 복제본의 지연된 이전 값이 캐시에 들어가면 캐시 만료까지 남고,
+     * 이후 조회는 DB가 아니라 캐시에서 응답하므로 read-your-writes 시간 창으로도 바로잡히지 않는다.
+     * 쓰기 트랜잭션으로 바꾸는 것과 달리 조회한 회원이 최근 쓰기 회원으로 기록되지 않는다.
+     * 커넥션은 첫 SQL을 실행할 때 정해지므로, 이미 SQL을 실행한 트랜잭션 안에서 부르면 그 커넥션을 계속 쓴다.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        if (PRIMARY_READ.get() != null) {
+            return read.get();
+        }
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_READ.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_READ.get() != null || tracker.isRecentWriter()) {
+            return PRIMARY;
+        }
+        return REPLICA + Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    /**
+     * 복제본 커넥션 풀 종료 (주 DB 풀은 별도 Bean으로 종료됨)
+     */
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.security.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (app.datasource.routing.*)
+ *
+ * 주(primary) DB 접속 정보는 기존 spring.datasource.* 를 그대로 사용하고
+ * 여기에는 읽기 전용 복제본(replica) 목록만 적는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    // 회원이 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안은 그 회원의 읽기도 주 DB에서 실행 (복제 지연 대비)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
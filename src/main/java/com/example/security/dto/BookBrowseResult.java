@@ -0,0 +1,21 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 패싯 탐색 결과 (책 목록 + 패싯별 책 수)
+ */
+@Getter
+@AllArgsConstructor
+public class BookBrowseResult {
+
+    private final List<BookSummary> books;   // 조건에 맞는 책 (최근 등록순, 한 페이지)
+    private final int total;                 // 조건에 맞는 전체 책 수
+    private final Long nextCursor;           // 다음 페이지 조회용 (마지막 책 id, 없으면 null)
+    private final List<FacetValue> prices;   // 가격대
+    private final List<FacetValue> pages;    // 페이지 수 구간
+    private final List<FacetValue> authors;  // 저자 (책 수 많은 순)
+}
@@ -0,0 +1,55 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 키셋(Seek) 페이지네이션의 위치를 나타내는 커서
+ *
+ * 정렬 키 (createdAt DESC, id DESC) 의 마지막/첫 번째 값을 담는다.
+ * - createdAt만으로는 같은 시각에 등록된 책을 구분할 수 없으므로 id를 함께 사용
+ * - URL 파라미터로 주고받기 위해 "2024-01-01T10:00:00.123456_42" 형태의 문자열로 변환
+ */
+@Getter
+@AllArgsConstructor
+public class BookCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * URL 파라미터용 문자열로 변환
+     */
+    public String encode() {
+        return createdAt.toString() + SEPARATOR + id;
+    }
+
+    /**
+     * URL 파라미터 문자열을 커서로 변환
+     *
+     * @param value encode()로 만든 문자열
+     * @return 커서 (값이 없으면 null)
+     * @throws IllegalArgumentException 형식이 올바르지 않을 때
+     */
+    public static BookCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int idx = value.lastIndexOf(SEPARATOR);
+        if (idx <= 0 || idx == value.length() - 1) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + value);
+        }
+        try {
+            LocalDateTime createdAt = LocalDateTime.parse(value.substring(0, idx));
+            Long id = Long.valueOf(value.substring(idx + 1));
+            return new BookCursor(createdAt, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.security.dto;
+
+import java.util.Locale;
+
+/**
+ * 책 대량 등록/내보내기 파일 형식
+ */
+public enum BookFileFormat {
+    CSV,     // 첫 줄은 헤더
+    NDJSON;  // 한 줄에 JSON 객체 하나
+
+    /**
+     * 요청 파라미터(csv, ndjson - 대소문자 무관)를 형식으로 변환
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식일 때
+     */
+    public static BookFileFormat of(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "ndjson" -> NDJSON;
+            default -> throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + name + " (csv, ndjson)");
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대량 등록 결과
+ */
+@Getter
+@AllArgsConstructor
+public class BookImportResult {
+
+    private final long totalRows;       // 읽은 행 수 (헤더 제외)
+    private final long importedRows;    // 저장된 행 수
+    private final long failedRows;      // 검증/파싱 실패 행 수
+    private final long elapsedMillis;   // 소요 시간
+    private final long rowsPerSecond;   // 처리량
+    private final List<RowError> errors; // 실패 행 상세 (최대 MAX_REPORTED_ERRORS 건)
+
+    /**
+     * 실패한 행 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long line;        // 파일의 줄 번호 (1부터)
+        private final String message;
+    }
+}
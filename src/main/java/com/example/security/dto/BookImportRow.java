@@ -0,0 +1,22 @@
+package com.example.security.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 대량 등록 파일(CSV/NDJSON)의 한 행
+ *
+ * CSV 헤더 또는 JSON 필드명: title, author, price, page, description
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class BookImportRow {
+
+    private String title;
+    private String author;
+    private Integer price;
+    private Integer page;
+    private String description;
+}
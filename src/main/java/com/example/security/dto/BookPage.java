@@ -0,0 +1,38 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 조회 결과
+ *
+ * OFFSET 방식과 달리 전체 개수(COUNT)를 구하지 않는다.
+ * 다음/이전 페이지는 현재 페이지의 마지막/첫 번째 행을 커서로 사용해 이동한다.
+ *
+ * @param <T> 페이지에 담기는 항목 타입
+ */
+@Getter
+@AllArgsConstructor
+public class BookPage<T> {
+
+    private final List<T> content;     // 현재 페이지의 항목 (createdAt DESC, id DESC 순)
+    private final BookCursor first;    // 첫 번째 항목의 커서 (이전 페이지 조회용)
+    private final BookCursor last;     // 마지막 항목의 커서 (다음 페이지 조회용)
+    private final boolean hasNext;     // 더 오래된 책이 남아있는지
+    private final boolean hasPrevious; // 더 최신 책이 남아있는지
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+
+    // Thymeleaf에서 ${page.nextCursor} 형태로 사용
+    public String getNextCursor() {
+        return hasNext && last != null ? last.encode() : null;
+    }
+
+    public String getPreviousCursor() {
+        return hasPrevious && first != null ? first.encode() : null;
+    }
+}
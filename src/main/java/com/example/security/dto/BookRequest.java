@@ -0,0 +1,50 @@
+package com.example.security.dto;
+
+import com.example.security.entity.Book;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 책 등록/수정 API 요청 본문 (POST, PUT /api/books)
+ *
+ * 제약은 book 테이블 컬럼(Book)과 같다. 어긋나면 DB에 보내기 전에 400으로 응답한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookRequest {
+
+    @NotBlank(message = "title은 필수입니다.")
+    @Size(max = 200, message = "title은 200자 이하여야 합니다.")
+    private String title;
+
+    @NotNull(message = "price는 필수입니다.")
+    @PositiveOrZero(message = "price는 0 이상이어야 합니다.")
+    private Integer price;
+
+    @NotBlank(message = "author는 필수입니다.")
+    @Size(max = 100, message = "author는 100자 이하여야 합니다.")
+    private String author;
+
+    @NotNull(message = "page는 필수입니다.")
+    @PositiveOrZero(message = "page는 0 이상이어야 합니다.")
+    private Integer page;
+
+    @Size(max = 500, message = "description은 500자 이하여야 합니다.")
+    private String description;
+
+    public Book toBook() {
+        Book book = new Book();
+        book.setTitle(title);
+        book.setPrice(price);
+        book.setAuthor(author);
+        book.setPage(page);
+        book.setDescription(description);
+        return book;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.security.dto;
+
+import com.example.security.entity.Book;
+import com.example.security.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 책 상세 API 응답 (GET /api/books/{id})
+ *
+ * 엔티티를 그대로 JSON으로 내보내면 등록자(Member)의 비밀번호, 권한까지 노출되므로
+ * 필요한 값만 옮겨 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookResponse {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final Integer price;
+    private final Integer page;
+    private final String description;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;                 // 수정/삭제 시 If-Match로 보내는 값 (ETag에도 포함)
+    private final String registeredByUsername;
+    private final String registeredByName;
+
+    public static BookResponse from(Book book) {
+        Member member = book.getRegisteredBy();
+        return new BookResponse(book.getId(), book.getTitle(), book.getAuthor(), book.getPrice(),
+                book.getPage(), book.getDescription(), book.getCreatedAt(), book.getUpdatedAt(),
+                book.getVersion(),
+                member != null ? member.getUsername() : null,
+                member != null ? member.getName() : null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 책 목록/검색 화면용 조회 결과 (DTO 프로젝션)
+ *
+ * 목록 화면에 표시하는 컬럼만 담는다.
+ * - 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않는다. (스냅샷, 더티 체킹 없음)
+ * - 설명(description), 등록자의 비밀번호/이메일/역할(roles)은 조회하지 않는다.
+ * BookRepository의 JPQL 생성자 표현식(SELECT new ...)으로 한 번의 쿼리에 만든다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookSummary {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final Integer price;
+    private final Integer page;
+    private final LocalDateTime createdAt;
+    private final String registeredByUsername;  // 수정/삭제 버튼 표시 여부 판단용
+    private final String registeredByName;      // 등록자 이름 (등록자가 없으면 null)
+}
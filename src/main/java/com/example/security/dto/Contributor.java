@@ -0,0 +1,17 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 책 등록 순위표의 회원 한 명
+ */
+@Getter
+@AllArgsConstructor
+public class Contributor {
+
+    private final Long memberId;
+    private final String username;
+    private final String name;
+    private final long bookCount;   // 등록한 책 수
+}
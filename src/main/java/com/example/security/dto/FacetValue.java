@@ -0,0 +1,19 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 패싯(필터) 항목 하나와 해당 책 수
+ *
+ * 예) 가격대 "1만~2만원" 12권, 저자 "남궁성" 3권
+ */
+@Getter
+@AllArgsConstructor
+public class FacetValue {
+
+    private final String key;       // 요청 파라미터 값 (가격대/페이지 구간은 번호, 저자는 이름)
+    private final String label;     // 화면 표시용
+    private final int count;        // 다른 패싯 조건을 적용했을 때의 책 수
+    private final boolean selected; // 현재 선택된 항목인지
+}
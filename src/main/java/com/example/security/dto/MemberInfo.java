@@ -0,0 +1,36 @@
+package com.example.security.dto;
+
+import com.example.security.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 캐시(members)에 저장하는 회원 정보 (MemberService.findByUsername)
+ *
+ * 캐시된 값은 여러 요청 스레드가 함께 보므로 Member 엔티티 대신 변경할 수 없는 값만 담는다.
+ * 비밀번호 해시와 권한은 담지 않는다. (로그인은 CustomUserDetailsService가 users 캐시로 따로 관리)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberInfo {
+
+    private final Long id;
+    private final String username;
+    private final String name;
+    private final String email;
+
+    public static MemberInfo from(Member member) {
+        return new MemberInfo(member.getId(), member.getUsername(), member.getName(), member.getEmail());
+    }
+
+    /**
+     * 책 등록자 지정용 Member (id, username, name만 채운 준영속 객체, 저장 시 FK로만 사용됨)
+     */
+    public Member toReference() {
+        Member member = new Member();
+        member.setId(id);
+        member.setUsername(username);
+        member.setName(name);
+        return member;
+    }
+}
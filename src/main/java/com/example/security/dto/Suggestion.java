@@ -0,0 +1,16 @@
+package com.example.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동완성 후보 (GET /api/books/suggest)
+ */
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+
+    private final String text;   // 제목 또는 저자명
+    private final String type;   // title | author
+    private final int count;     // 해당 제목/저자의 책 수 (정렬 기준)
+}
@@ -20,7 +20,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "book")  // 테이블명 명시적 지정
+@Table(name = "book",  // 테이블명 명시적 지정
+        indexes = {
+                // 최신순 목록, 키셋 페이지네이션 (ORDER BY createdAt DESC, id DESC)
+                @Index(name = "idx_book_created_at", columnList = "createdAt DESC, id DESC"),
+                // 회원별 책 목록/개수 (WHERE member_id = ? ORDER BY createdAt)
+                @Index(name = "idx_book_member_created_at", columnList = "member_id, createdAt"),
+                // 가격 범위 검색
+                @Index(name = "idx_book_price", columnList = "price"),
+                // 저자 검색/정렬
+                @Index(name = "idx_book_author", columnList = "author")
+        })
+@EntityListeners(EntityCacheListener.class)  // 수정/삭제 시 2차 캐시 무효화
 public class Book {
 
     @Id
@@ -71,6 +82,12 @@ public class Book {
     // 수정 시간 자동 설정
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금용 버전 (수정할 때마다 1 증가)
+    // 수정 폼에서 읽은 버전과 DB의 버전이 다르면 그 사이 다른 사람이 수정한 것이므로 수정을 거부한다.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 엔티티 저장 전 자동 실행
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,35 @@
+package com.example.security.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 책 카탈로그 버전(BookCatalogVersion)을 저장하는 테이블
+ *
+ * 모든 서버가 같은 버전을 보도록 DB에 둔다.
+ * 책이 바뀔 때마다 한 행만 +1 하면 그 행의 잠금을 기다리게 되므로, 여러 행(slot)에 나누어 더하고
+ * 읽을 때 합계를 버전으로 사용한다. (행은 처음 쓰일 때 생성됨)
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "book_catalog_version")
+public class BookCatalogVersionSlot {
+
+    @Id
+    private Integer slot;           // 0 ~ BookCatalogVersion.SLOTS-1
+
+    @Column(nullable = false)
+    private Long version;           // 이 행에 더해진 변경 횟수
+
+    @Column(nullable = false)
+    private Long updatedAt;         // 마지막 변경 시각 (epoch millis)
+}
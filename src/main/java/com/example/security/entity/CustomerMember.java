@@ -1,27 +1,52 @@
 package com.example.security.entity;
 
 import lombok.Getter;
-import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
+import java.io.Serial;
 import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-@Setter
+/**
+ * 로그인한 사용자 정보 (SecurityContext의 principal)
+ *
+ * 세션 저장소(JDBC)에 직렬화되어 저장되므로 Member 엔티티 전체 대신 필요한 값만 보관한다.
+ * - 회원 id, 로그인 ID(username), 표시 이름(name), 권한 목록
+ * - 비밀번호는 인증이 끝나면 Spring Security가 지운다. (eraseCredentials)
+ * View(Thymeleaf)에서 ${#authentication.principal.name} 형태로 접근 가능
+ * 회원 정보가 더 필요하면 MemberService.findByUsername(username)으로 조회 (회원 캐시, MemberInfo)
+ */
 @Getter
 public class CustomerMember extends User {
-    // 우리 애플리케이션의 회원 정보를 그대로 보관
-    // View(Thymeleaf)에서 ${#authentication.principal.member.name} 형태로 접근 가능
-    private Member member;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;       // 회원 id
+    private final String name;   // 화면 표시용 이름
 
     public CustomerMember(Member member) {
         // 부모 클래스(User) 생성자 호출
         // User(username, password, authorities)
-        super(member.getUsername(), member.getPassword(), getAuthorities(member.getRoles())); // 로그인 ID  // 암호화된 비밀번호 // 권한 정보 변환
-        this.member=member;             // 추가 정보 저장 (이름, 나이, 이메일 등 View에서 필요한 정보)
+        this(member.getId(), member.getName(), member.getUsername(), member.getPassword(),
+                getAuthorities(member.getRoles()));  // 권한 정보 변환
+    }
+
+    public CustomerMember(Long id, String name, String username, String password,
+                          Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * 같은 내용의 새 객체 (캐시된 객체의 비밀번호가 지워지지 않도록 사용)
+     */
+    public CustomerMember copy() {
+        return new CustomerMember(id, name, getUsername(), getPassword(), getAuthorities());
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.example.security.entity;
+
+import com.example.security.config.CacheConfig;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 엔티티가 수정/삭제될 때 2차 캐시에서 제거하는 JPA 엔티티 리스너
+ *
+ * 제거는 트랜잭션이 커밋된 뒤에 한다.
+ * (커밋 전에 지우면 그 사이 다른 요청이 아직 커밋되지 않은 이전 값을 다시 캐시에 넣을 수 있음)
+ * Spring Boot는 Hibernate가 리스너를 Spring 빈으로 생성하도록 설정하므로
+ * 생성자 주입으로 CacheManager를 받을 수 있다.
+ */
+@RequiredArgsConstructor
+public class EntityCacheListener {
+
+    private final CacheManager cacheManager;
+
+    @PreUpdate
+    @PreRemove
+    public void evict(Object entity) {
+        if (entity instanceof Book book) {
+            evict(CacheConfig.BOOKS, book.getId());
+        } else if (entity instanceof Member member) {
+            evict(CacheConfig.MEMBERS, CacheConfig.userKey(member.getUsername()));
+            evict(CacheConfig.USERS, CacheConfig.userKey(member.getUsername()));   // 로그인 사용자 캐시 (비밀번호 변경 등)
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || key == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(key);
+                }
+            });
+        } else {
+            cache.evict(key);
+        }
+    }
+}
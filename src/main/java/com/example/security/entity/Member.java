@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.Set;
 
@@ -13,6 +14,7 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(EntityCacheListener.class)  // 수정/삭제 시 2차 캐시 무효화
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +28,12 @@ public class Member {
     private int age;
     private String email;
 
+    // 등록한 책 수 (비정규화) - MemberBookCounter가 모아서 UPDATE하므로 엔티티 수정 시에는 덮어쓰지 않음
+    // 화면에는 반영 전 증감까지 포함한 MemberBookCounter.getCount()를 사용
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bookCount;
+
     // 회원-권한 다대다 관계 설정 (한 회원은 여러 권한, 한 권한은 여러 회원)
     @ManyToMany(fetch = FetchType.EAGER)  // EAGER: 회원 조회시 권한도 함께 즉시 로딩
     @JoinTable(                            // 다대다 관계를 위한 중간 테이블 설정
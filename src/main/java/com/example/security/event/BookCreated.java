@@ -0,0 +1,20 @@
+package com.example.security.event;
+
+import com.example.security.entity.Book;
+import lombok.Getter;
+
+/**
+ * 책 등록 이벤트 (BookService.register, BookImportService)
+ */
+@Getter
+public class BookCreated extends BookEvent {
+
+    private final Book book;        // 등록된 책 (발행 후 수정 금지)
+    private final Long memberId;    // 등록자 id
+
+    public BookCreated(Book book) {
+        super(book.getId());
+        this.book = book;
+        this.memberId = book.getRegisteredBy() != null ? book.getRegisteredBy().getId() : null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.security.event;
+
+import lombok.Getter;
+
+/**
+ * 책 삭제 이벤트 (BookService.delete)
+ */
+@Getter
+public class BookDeleted extends BookEvent {
+
+    private final Long memberId;    // 삭제된 책의 등록자 id (모르면 null)
+
+    public BookDeleted(Long bookId, Long memberId) {
+        super(bookId);
+        this.memberId = memberId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.security.event;
+
+import lombok.Getter;
+
+/**
+ * 책 변경 이벤트 (BookCreated, BookUpdated, BookDeleted)
+ *
+ * 트랜잭션이 커밋된 뒤에만 BookEventBus로 발행되므로 리스너는 롤백된 변경을 보지 않는다.
+ */
+@Getter
+public abstract class BookEvent {
+
+    private final Long bookId;
+
+    protected BookEvent(Long bookId) {
+        this.bookId = bookId;
+    }
+}
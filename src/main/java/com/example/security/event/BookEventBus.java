@@ -0,0 +1,248 @@
+package com.example.security.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 책 변경 이벤트 파이프라인
+ *
+ * BookService/BookImportService가 발행한 이벤트를 커밋 후 원형 버퍼(BookEventRingBuffer)에 넣고,
+ * 리스너(BookEventListener 빈)마다 전용 스레드가 순서대로 묶어서 전달한다.
+ * - 발행은 버퍼에 한 칸 쓰는 것으로 끝나므로 리스너가 늘어도 쓰기 요청의 응답 시간은 그대로
+ * - 롤백된 트랜잭션의 이벤트는 발행되지 않음
+ * - 소비 스레드는 먼저 리스너의 initialize()(전체 색인 등)를 실행하고, 그 사이 쌓인 이벤트를 이어서 전달
+ * - 버퍼가 app.events.publish-timeout 동안 가득 차 있으면(리스너가 멈춘 경우 등) 이벤트를 버리고 센다.
+ *   버려진 변경은 색인에 반영되지 않으며 다음 시작 때 DB에서 다시 만들 때 반영된다. (도서 수는 주기적 대사로 복구)
+ * - 지표: book.events.published, book.events.dropped, book.events.lag{listener} (아직 처리하지 않은 이벤트 수)
+ * 서버(인스턴스) 안에서만 전달된다. 다른 서버의 색인은 각 서버가 시작할 때 DB에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class BookEventBus implements SmartLifecycle {
+
+    private static final int MAX_BATCH = 256;
+
+    private final BookEventRingBuffer ringBuffer;
+    private final WaitStrategy waitStrategy;
+    private final List<Consumer> consumers = new ArrayList<>();
+    private final Counter publishedCount;
+    private final Counter droppedCount;
+    private final long publishTimeoutNanos;
+    private final long shutdownTimeoutMillis;
+    private volatile long lastAppliedAt;        // 리스너가 마지막으로 이벤트를 반영한 시각 (epoch millis)
+    private volatile boolean running;
+
+    public BookEventBus(List<BookEventListener> listeners,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.events.ring-size:8192}") int ringSize,
+                        @Value("${app.events.wait-strategy:sleeping}") String waitStrategy,
+                        @Value("${app.events.publish-timeout:1s}") Duration publishTimeout,
+                        @Value("${app.events.shutdown-timeout:5s}") Duration shutdownTimeout) {
+        this.waitStrategy = WaitStrategy.of(waitStrategy);
+        this.ringBuffer = new BookEventRingBuffer(ringSize, this.waitStrategy);
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+        this.publishedCount = Counter.builder("book.events.published")
+                .description("발행된 책 변경 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCount = Counter.builder("book.events.dropped")
+                .description("버퍼가 가득 차 버려진 책 변경 이벤트 수")
+                .register(meterRegistry);
+
+        List<AtomicLong> sequences = new ArrayList<>();
+        for (BookEventListener listener : listeners) {
+            Consumer consumer = new Consumer(listener);
+            consumers.add(consumer);
+            sequences.add(consumer.sequence);
+            Gauge.builder("book.events.lag", consumer, c -> ringBuffer.cursor() - c.sequence.get())
+                    .description("리스너가 아직 처리하지 않은 이벤트 수")
+                    .tag("listener", consumer.name)
+                    .register(meterRegistry);
+        }
+        ringBuffer.addGatingSequences(sequences);
+    }
+
+    /**
+     * 이벤트 발행 (트랜잭션 안에서 호출되면 커밋된 뒤에 발행)
+     */
+    public void publish(BookEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(event);
+                }
+            });
+        } else {
+            publishNow(event);
+        }
+    }
+
+    private void publishNow(BookEvent event) {
+        if (ringBuffer.tryPublish(event, publishTimeoutNanos)) {
+            publishedCount.increment();
+        } else {
+            droppedCount.increment();
+            log.error("책 이벤트 버퍼가 가득 차 이벤트를 버립니다: {} (book.events.lag 확인)", event);
+        }
+    }
+
+    /**
+     * 모든 리스너가 반영을 마친 마지막 이벤트 번호 (아무것도 반영하지 않았으면 -1)
+     * 메모리 색인으로 응답하는 API의 ETag에 포함하여, 반영 전 결과에 붙은 ETag가 반영 후에 재사용되지 않게 한다.
+     */
+    public long appliedSequence() {
+        return ringBuffer.minimumGatingSequence();
+    }
+
+    /**
+     * 리스너가 마지막으로 이벤트를 반영한 시각 (epoch millis, 없으면 0)
+     */
+    public long getLastAppliedAt() {
+        return lastAppliedAt;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Consumer consumer : consumers) {
+            Thread thread = new Thread(consumer, "book-events-" + consumer.name);
+            thread.setDaemon(true);
+            consumer.thread = thread;
+            thread.start();
+        }
+        log.info("책 이벤트 파이프라인 시작: 리스너 {}개, 버퍼 {}칸", consumers.size(), ringBuffer.size());
+    }
+
+    /**
+     * 발행된 이벤트를 모두 처리할 때까지 기다린 뒤 소비 스레드 종료
+     */
+    @Override
+    public void stop() {
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        long target = ringBuffer.cursor();
+        for (Consumer consumer : consumers) {
+            while (consumer.sequence.get() < target && System.currentTimeMillis() < deadline) {
+                sleep(1);
+            }
+        }
+        running = false;
+        for (Consumer consumer : consumers) {
+            consumer.thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 시작 완료 전에 모든 리스너의 초기화와, 그때까지 발행된 이벤트 반영이 끝나기를 기다림
+     * (초기 데이터 생성 등 시작 중의 변경이 색인에 반영된 상태로 시작을 마친다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void awaitStartup() throws InterruptedException {
+        for (Consumer consumer : consumers) {
+            consumer.initialized.await();
+            if (consumer.initializationFailure != null) {
+                throw new IllegalStateException("책 이벤트 리스너 초기화 실패: " + consumer.name,
+                        consumer.initializationFailure);
+            }
+        }
+        long target = ringBuffer.cursor();
+        for (Consumer consumer : consumers) {
+            while (consumer.sequence.get() < target) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+    }
+
+    // 웹 서버보다 먼저 시작하고 늦게 멈추도록 (요청 처리가 끝난 뒤 남은 이벤트를 처리)
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 리스너 하나를 담당하는 소비 스레드
+     */
+    private final class Consumer implements Runnable {
+        final BookEventListener listener;
+        final String name;
+        final AtomicLong sequence = new AtomicLong(-1);   // 처리를 마친 마지막 번호
+        final CountDownLatch initialized = new CountDownLatch(1);
+        volatile Throwable initializationFailure;
+        Thread thread;
+
+        Consumer(BookEventListener listener) {
+            this.listener = listener;
+            this.name = ClassUtils.getShortName(ClassUtils.getUserClass(listener));
+        }
+
+        @Override
+        public void run() {
+            try {
+                listener.initialize();
+            } catch (RuntimeException | Error e) {
+                initializationFailure = e;
+                log.error("책 이벤트 리스너 초기화 실패: {}", name, e);
+            } finally {
+                initialized.countDown();
+            }
+
+            List<BookEvent> batch = new ArrayList<>(MAX_BATCH);
+            long next = sequence.get() + 1;
+            while (running) {
+                long expected = next;
+                try {
+                    waitStrategy.await(() -> !running || ringBuffer.isPublished(expected));
+                } catch (InterruptedException e) {
+                    break;
+                }
+                long last = ringBuffer.highestPublished(next, MAX_BATCH);
+                if (last < next) {
+                    continue;
+                }
+                for (long s = next; s <= last; s++) {
+                    batch.add(ringBuffer.get(s));
+                }
+                try {
+                    listener.onEvents(batch);
+                } catch (RuntimeException | Error e) {
+                    // 소비 스레드가 죽으면 버퍼가 다시 비지 않으므로 Error도 기록만 하고 계속 진행
+                    log.error("책 이벤트 처리 실패: {} ({}건)", name, batch.size(), e);
+                }
+                batch.clear();
+                sequence.set(last);   // 이 칸들은 이제 다시 써도 됨
+                lastAppliedAt = System.currentTimeMillis();
+                next = last + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.security.event;
+
+import java.util.List;
+
+/**
+ * 책 변경 이벤트 리스너
+ *
+ * 이 인터페이스를 구현한 Spring 빈은 BookEventBus가 자동으로 등록한다.
+ * - 리스너마다 전용 스레드가 이벤트를 발행 순서대로 전달한다. (리스너 사이에는 순서 보장 없음)
+ * - 밀린 이벤트는 한 번에 묶어서(batch) 전달하므로 잠금을 한 번만 잡고 처리할 수 있다.
+ * - 예외를 던져도 다음 이벤트는 계속 전달된다. (로그만 남음)
+ * - initialize()가 끝난 뒤에 첫 이벤트가 전달되므로 초기화와 이벤트 반영이 겹치지 않는다.
+ */
+public interface BookEventListener {
+
+    /**
+     * 첫 이벤트를 전달하기 전에 소비 스레드에서 한 번 호출 (DB에서 초기 상태 읽기 등)
+     *
+     * 그 사이 발행된 이벤트는 버퍼에 쌓였다가 끝난 뒤 순서대로 전달된다.
+     * 초기화가 읽은 데이터에 이미 포함된 변경도 다시 전달될 수 있으므로 같은 이벤트를 두 번 반영해도 결과가 같아야 한다.
+     * 애플리케이션 시작(ApplicationReadyEvent)은 모든 리스너의 초기화가 끝날 때까지 기다린다.
+     */
+    default void initialize() {
+    }
+
+    /**
+     * @param events 발행 순서대로 정렬된 이벤트 (1개 이상)
+     */
+    void onEvents(List<BookEvent> events);
+}
@@ -0,0 +1,132 @@
+package com.example.security.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 미리 할당한 고정 크기 원형 버퍼 (잠금 없음)
+ *
+ * 발행: 번호(sequence)를 AtomicLong으로 하나 받아 해당 칸에 쓰고, 칸의 발행 번호를 기록한다.
+ *      여러 요청 스레드가 동시에 발행해도 대부분 CAS 한 번으로 끝나며 리스너 수와 관계없다.
+ * 소비: 소비자마다 자기 번호(Consumer.sequence)를 갖고, 발행 번호가 기록된 칸까지 순서대로 읽는다.
+ * 가장 느린 소비자가 한 바퀴 뒤처지면 발행 쪽이 정해진 시간까지 기다리고, 그래도 가득 차 있으면 포기한다.
+ * (소비 스레드가 멈춘 경우에도 요청 스레드가 영원히 묶이지 않도록)
+ */
+final class BookEventRingBuffer {
+
+    private final int mask;
+    private final BookEvent[] entries;
+    private final AtomicLongArray published;   // 칸별로 마지막에 발행된 번호
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final WaitStrategy waitStrategy;
+    private volatile AtomicLong[] gatingSequences = new AtomicLong[0];
+    private long cachedMinimum = -1;            // 가장 느린 소비자 번호 (근사값, 경쟁 허용)
+
+    BookEventRingBuffer(int size, WaitStrategy waitStrategy) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("버퍼 크기는 2의 거듭제곱이어야 합니다: " + size);
+        }
+        this.mask = size - 1;
+        this.entries = new BookEvent[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * 소비자 번호 등록 (소비자 시작 전에 호출)
+     */
+    void addGatingSequences(List<AtomicLong> sequences) {
+        this.gatingSequences = sequences.toArray(AtomicLong[]::new);
+    }
+
+    /**
+     * 이벤트 발행
+     *
+     * 빈 칸이 생길 때까지 최대 timeoutNanos 동안 기다린다.
+     * 빈 칸을 확인한 뒤에 번호를 받으므로(CAS), 시간을 넘겨 포기해도 소비자가 기다리는 빈 번호가 남지 않는다.
+     *
+     * @return 발행했으면 true, 가장 느린 소비자가 그동안 한 칸도 비우지 않았으면 false (이벤트는 버려짐)
+     */
+    boolean tryPublish(BookEvent event, long timeoutNanos) {
+        long sequence;
+        long deadline = 0;
+        while (true) {
+            long current = claimed.get();
+            sequence = current + 1;
+            long wrapPoint = sequence - entries.length;
+            // 한 바퀴 전의 같은 칸을 아직 읽지 않은 소비자가 있으면 대기
+            if (wrapPoint > cachedMinimum) {
+                long minimum = minimumSequence(current);
+                cachedMinimum = minimum;
+                if (wrapPoint > minimum) {
+                    if (deadline == 0) {
+                        deadline = System.nanoTime() + timeoutNanos;
+                    } else if (System.nanoTime() - deadline >= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(1_000);
+                    continue;
+                }
+            }
+            if (claimed.compareAndSet(current, sequence)) {
+                break;
+            }
+        }
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        published.lazySet(index, sequence);   // 쓰기 후 공개 (release)
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == sequence;
+    }
+
+    /**
+     * from부터 연속으로 발행된 마지막 번호 (from이 아직 없으면 from - 1)
+     */
+    long highestPublished(long from, int maxBatch) {
+        long sequence = from;
+        long limit = from + maxBatch;
+        while (sequence < limit && isPublished(sequence)) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    BookEvent get(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    /**
+     * 지금까지 발급된 가장 큰 번호 (지연 지표용)
+     */
+    long cursor() {
+        return claimed.get();
+    }
+
+    /**
+     * 모든 소비자가 처리를 마친 마지막 번호
+     */
+    long minimumGatingSequence() {
+        return minimumSequence(claimed.get());
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    private long minimumSequence(long fallback) {
+        long minimum = fallback;
+        for (AtomicLong sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.security.event;
+
+import com.example.security.entity.Book;
+import lombok.Getter;
+
+/**
+ * 책 수정 이벤트 (BookService.update)
+ */
+@Getter
+public class BookUpdated extends BookEvent {
+
+    private final Book book;        // 수정된 값 (id, 제목, 저자, 가격, 페이지, 설명)
+
+    public BookUpdated(Book book) {
+        super(book.getId());
+        this.book = book;
+    }
+}
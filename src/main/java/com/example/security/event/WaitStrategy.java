@@ -0,0 +1,115 @@
+package com.example.security.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 이벤트가 없을 때 소비 스레드가 기다리는 방식 (app.events.wait-strategy)
+ *
+ * - busy-spin : 계속 확인. 지연이 가장 짧지만 리스너마다 CPU 코어 하나를 점유
+ * - yielding  : 잠깐 확인 후 Thread.yield(). 지연이 짧고 다른 스레드에 양보
+ * - sleeping  : 확인 → 양보 → 짧게 잠듦 (기본). 발행 쪽 비용 없음, 한가할 때 CPU 거의 안 씀
+ * - blocking  : 잠금/Condition으로 대기. CPU를 쓰지 않지만 발행할 때마다 깨우는 비용이 있음
+ */
+public interface WaitStrategy {
+
+    /**
+     * ready가 true가 될 때까지 대기
+     */
+    void await(BooleanSupplier ready) throws InterruptedException;
+
+    /**
+     * 새 이벤트가 발행되었음 (blocking에서만 사용)
+     */
+    default void signalAll() {
+    }
+
+    static WaitStrategy of(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "busy-spin" -> new Spinning(Integer.MAX_VALUE);
+            case "yielding" -> new Spinning(100);
+            case "sleeping" -> new Sleeping();
+            case "blocking" -> new Blocking();
+            default -> throw new IllegalArgumentException("알 수 없는 대기 방식입니다: " + name);
+        };
+    }
+
+    /**
+     * spins번 확인한 뒤부터는 확인할 때마다 양보
+     */
+    final class Spinning implements WaitStrategy {
+        private final int spins;
+
+        Spinning(int spins) {
+            this.spins = spins;
+        }
+
+        @Override
+        public void await(BooleanSupplier ready) throws InterruptedException {
+            for (int i = 0; !ready.getAsBoolean(); i++) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (i < spins) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    final class Sleeping implements WaitStrategy {
+        private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+        @Override
+        public void await(BooleanSupplier ready) throws InterruptedException {
+            for (int i = 0; !ready.getAsBoolean(); i++) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (i < 100) {
+                    Thread.onSpinWait();
+                } else if (i < 200) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+        }
+    }
+
+    final class Blocking implements WaitStrategy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition published = lock.newCondition();
+
+        @Override
+        public void await(BooleanSupplier ready) throws InterruptedException {
+            if (ready.getAsBoolean()) {
+                return;
+            }
+            lock.lock();
+            try {
+                while (!ready.getAsBoolean()) {
+                    // 신호를 놓쳐도 멈추지 않도록 일정 시간마다 다시 확인
+                    published.await(1, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
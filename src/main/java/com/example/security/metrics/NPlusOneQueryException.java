@@ -0,0 +1,13 @@
+package com.example.security.metrics;
+
+/**
+ * 한 요청에서 같은 형태의 SQL이 허용 횟수를 넘어 실행되었을 때 발생 (N+1 쿼리 의심)
+ *
+ * app.metrics.n-plus-one.mode=fail 일 때만 발생하며, 주로 개발/테스트 환경에서 사용한다.
+ */
+public class NPlusOneQueryException extends IllegalStateException {
+
+    public NPlusOneQueryException(String message) {
+        super(message);
+    }
+}
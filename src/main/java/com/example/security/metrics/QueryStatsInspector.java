@@ -0,0 +1,44 @@
+package com.example.security.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL을 준비할 때마다 현재 요청의 SQL 수를 센다.
+ *
+ * N+1 감지: 한 요청에서 같은 형태의 SQL이 threshold 번을 넘게 실행되면
+ * 경고 로그를 남기거나(log) 예외를 발생시킨다(fail).
+ */
+@Slf4j
+public class QueryStatsInspector implements StatementInspector {
+
+    private final int nPlusOneThreshold;
+    private final boolean failOnNPlusOne;
+
+    /**
+     * @param nPlusOneThreshold 요청당 같은 형태 SQL의 허용 횟수
+     * @param failOnNPlusOne    true이면 초과 시 NPlusOneQueryException 발생
+     */
+    public QueryStatsInspector(int nPlusOneThreshold, boolean failOnNPlusOne) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.failOnNPlusOne = failOnNPlusOne;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestStats stats = RequestStats.current();
+        if (stats == null) {
+            return sql;
+        }
+        int count = stats.statementPrepared(sql);
+        if (count == nPlusOneThreshold + 1) {   // 처음 초과했을 때 한 번만
+            String message = String.format("N+1 쿼리 의심: %s 요청에서 같은 SQL이 %d번 넘게 실행됨: %s",
+                    stats.getRequestUri(), nPlusOneThreshold, RequestStats.shapeOf(sql));
+            if (failOnNPlusOne) {
+                throw new NPlusOneQueryException(message);
+            }
+            log.warn(message);
+        }
+        return sql;
+    }
+}
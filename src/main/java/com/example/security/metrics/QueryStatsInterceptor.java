@@ -0,0 +1,37 @@
+package com.example.security.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Transaction;
+import org.hibernate.type.Type;
+
+/**
+ * 엔티티 로딩 수와 트랜잭션 시간을 현재 요청 집계에 기록하는 Hibernate Interceptor
+ * (SessionFactory 전체에서 공유하므로 상태를 갖지 않는다)
+ */
+public class QueryStatsInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestStats stats = RequestStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+        return false;   // 상태를 변경하지 않음
+    }
+
+    @Override
+    public void afterTransactionBegin(Transaction tx) {
+        RequestStats stats = RequestStats.current();
+        if (stats != null) {
+            stats.transactionBegan();
+        }
+    }
+
+    @Override
+    public void afterTransactionCompletion(Transaction tx) {
+        RequestStats stats = RequestStats.current();
+        if (stats != null) {
+            stats.transactionCompleted();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.security.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SQL 실행 시간을 재고, 느린 쿼리를 샘플링하여 로그로 남기는 Hibernate 세션 리스너
+ *
+ * show-sql 처럼 모든 SQL을 출력하지 않고
+ * 임계값(app.metrics.slow-query-threshold)을 넘은 SQL만 샘플링 비율에 따라 출력한다.
+ * Hibernate가 세션마다 새로 생성하므로 설정값은 static으로 보관한다. (MetricsConfig에서 설정)
+ */
+@Slf4j
+public class QueryStatsSessionListener implements SessionEventListener {
+
+    private static volatile long slowQueryThresholdNanos = Long.MAX_VALUE;
+    private static volatile double slowQuerySampleRate = 1.0;
+
+    private long executeStart;
+
+    public static void configure(long thresholdNanos, double sampleRate) {
+        slowQueryThresholdNanos = thresholdNanos;
+        slowQuerySampleRate = sampleRate;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        long elapsed = System.nanoTime() - executeStart;
+        RequestStats stats = RequestStats.current();
+        if (stats != null) {
+            stats.jdbcExecuted(elapsed);
+        }
+        if (elapsed >= slowQueryThresholdNanos
+                && ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate) {
+            log.warn("느린 쿼리 {}ms: {}", elapsed / 1_000_000,
+                    stats != null ? stats.getCurrentSql() : "(요청 밖에서 실행)");
+        }
+    }
+}
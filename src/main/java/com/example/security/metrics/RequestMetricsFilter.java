@@ -0,0 +1,83 @@
+package com.example.security.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 요청마다 DB 사용량을 지표로 기록하는 필터
+ *
+ * 요청 지연 시간 자체는 Spring Boot의 http.server.requests 지표(히스토그램)를 사용하고,
+ * 여기서는 같은 uri 태그로 아래 지표를 추가한다.
+ * - http.server.requests.statements        : 요청당 SQL 수
+ * - http.server.requests.rows              : 요청당 DB에서 읽은 행 수 (DTO 프로젝션, JdbcTemplate 포함)
+ * - http.server.requests.entities.loaded   : 요청당 로딩한 엔티티 수
+ * - http.server.requests.jdbc              : 요청당 SQL 실행 시간
+ * - http.server.requests.transaction       : 요청당 트랜잭션 시간
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestStats stats = RequestStats.begin(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStats stats) {
+        // 컨트롤러에 매핑된 요청만 기록 (uri 태그는 /book/detail/{id} 같은 패턴)
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String uri = pattern.toString();
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.statements")
+                .tags("uri", uri, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.requests.rows")
+                .tags("uri", uri, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getRowsFetched());
+        DistributionSummary.builder("http.server.requests.entities.loaded")
+                .tags("uri", uri, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getEntitiesLoaded());
+        Timer.builder("http.server.requests.jdbc")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("http.server.requests.transaction")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getTransactionNanos(), TimeUnit.NANOSECONDS);
+    }
+}
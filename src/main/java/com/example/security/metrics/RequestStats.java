@@ -0,0 +1,128 @@
+package com.example.security.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청(스레드) 단위 DB 사용량 집계
+ *
+ * Hibernate 훅(QueryStatsInspector, QueryStatsInterceptor, QueryStatsSessionListener)과
+ * RowCountingDataSource(읽은 행 수)가 값을 올리고,
+ * RequestMetricsFilter가 요청이 끝날 때 읽어서 Micrometer 지표로 기록한다.
+ * 요청 스레드에서만 사용하므로 ThreadLocal로 보관한다.
+ */
+public final class RequestStats {
+
+    private static final ThreadLocal<RequestStats> CURRENT = new ThreadLocal<>();
+
+    // SQL 형태 비교용: 공백 정리, IN (?, ?, ?) → IN (?)
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(\\s*,\\s*\\?)*\\)");
+
+    private final String requestUri;
+
+    private int statements;          // 실행한 SQL 수
+    private int entitiesLoaded;      // 로딩한 엔티티 수
+    private long rowsFetched;        // DB에서 읽은 행 수 (JPA, JdbcTemplate 모두)
+    private long jdbcNanos;          // SQL 실행 시간 합계
+    private long transactionNanos;   // 트랜잭션 시간 합계
+    private long transactionStart;
+    private String currentSql;       // 실행 중인 SQL (느린 쿼리 로그용)
+    private final Map<String, Integer> statementShapes = new HashMap<>();  // SQL 형태별 실행 횟수 (N+1 감지용)
+
+    private RequestStats(String requestUri) {
+        this.requestUri = requestUri;
+    }
+
+    /**
+     * 요청 시작 시 호출 (RequestMetricsFilter)
+     */
+    public static RequestStats begin(String requestUri) {
+        RequestStats stats = new RequestStats(requestUri);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 요청 종료 시 호출 (RequestMetricsFilter)
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청의 집계 (요청 밖 - 스케줄러, 시작 시 초기화 등 - 이면 null)
+     */
+    public static RequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * SQL 실행 기록
+     *
+     * @return 이번 요청에서 같은 형태의 SQL이 실행된 횟수 (이번 포함)
+     */
+    int statementPrepared(String sql) {
+        statements++;
+        currentSql = sql;
+        return statementShapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    // 파라미터 값과 IN 목록 길이를 무시한 SQL 형태
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void rowFetched() {
+        rowsFetched++;
+    }
+
+    void jdbcExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void transactionBegan() {
+        transactionStart = System.nanoTime();
+    }
+
+    void transactionCompleted() {
+        if (transactionStart != 0) {
+            transactionNanos += System.nanoTime() - transactionStart;
+            transactionStart = 0;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getTransactionNanos() {
+        return transactionNanos;
+    }
+
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    String getCurrentSql() {
+        return currentSql;
+    }
+}
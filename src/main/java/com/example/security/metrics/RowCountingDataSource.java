@@ -0,0 +1,104 @@
+package com.example.security.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 요청마다 DB에서 읽은 행 수를 세는 DataSource
+ *
+ * 커넥션 → Statement → ResultSet을 프록시로 감싸 ResultSet.next()가 true를 반환할 때마다 RequestStats에 더한다.
+ * Hibernate뿐 아니라 JdbcTemplate(카탈로그 버전, 도서 수, 세션 저장소 등)의 SQL도 함께 집계된다.
+ * (DTO 프로젝션은 엔티티를 로딩하지 않으므로 엔티티 수로는 읽은 행을 알 수 없음)
+ * - 요청 밖(스케줄러, 시작 시 초기화 등)에서 만든 ResultSet은 감싸지 않는다.
+ * - MetricsConfig가 애플리케이션의 dataSource 빈을 이것으로 감싼다.
+ */
+public class RowCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public RowCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * 감싼 커넥션 풀 종료 (빈 종료 시 호출, HikariDataSource 등)
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection counting(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Statement statement ? counting(statement) : result;
+        });
+    }
+
+    private static Statement counting(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, statement, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof ResultSet resultSet
+                    && (method.getName().equals("executeQuery") || method.getName().equals("getResultSet"))) {
+                return counting(resultSet);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet counting(ResultSet resultSet) {
+        RequestStats stats = RequestStats.current();
+        if (stats == null) {
+            return resultSet;
+        }
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                stats.rowFetched();
+            }
+            return result;
+        });
+    }
+
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(RowCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.security.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ *
+ * 가상 스레드가 synchronized 블록 안에서 JDBC 등으로 블로킹되면 캐리어 스레드를 붙잡아
+ * 다른 가상 스레드가 실행되지 못한다. (JDK 21~23)
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 구독하여
+ * - jvm.threads.virtual.pinned 지표 증가 (source=app: 우리 코드, library: 라이브러리 내부)
+ * - 우리 코드(com.example.security)에서 발생한 경우 해당 위치를 경고 로그로 출력
+ * 별도의 JVM 옵션(-Djdk.tracePinnedThreads) 없이 운영 중에도 켜 둘 수 있다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.example.security.";
+
+    private final Duration threshold;
+    private final Counter appPinned;
+    private final Counter libraryPinned;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry, Duration threshold) {
+        this.threshold = threshold;
+        this.appPinned = Counter.builder("jvm.threads.virtual.pinned")
+                .tag("source", "app")
+                .register(registry);
+        this.libraryPinned = Counter.builder("jvm.threads.virtual.pinned")
+                .tag("source", "library")
+                .register(registry);
+    }
+
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작 (기준 {}ms)", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedFrame frame = findAppFrame(event.getStackTrace());
+        if (frame == null) {
+            libraryPinned.increment();
+            log.debug("가상 스레드 pinning {}ms (라이브러리 내부)", event.getDuration().toMillis());
+            return;
+        }
+        appPinned.increment();
+        log.warn("가상 스레드 pinning {}ms: {}.{}:{} (synchronized 대신 ReentrantLock 사용 검토)",
+                event.getDuration().toMillis(),
+                frame.getMethod().getType().getName(), frame.getMethod().getName(), frame.getLineNumber());
+    }
+
+    // 스택에서 가장 위에 있는 우리 코드 프레임
+    private RecordedFrame findAppFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
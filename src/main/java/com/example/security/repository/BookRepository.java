@@ -1,13 +1,26 @@
 package com.example.security.repository;
 
+import com.example.security.dto.BookSummary;
 import com.example.security.entity.Book;
 import com.example.security.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * 책 데이터 접근을 위한 Repository
@@ -19,15 +32,19 @@ import java.util.List;
 public interface BookRepository extends JpaRepository<Book, Long> {
 
     // 제목으로 책 검색 (부분 일치, 대소문자 구분 없음)
+    @EntityGraph(attributePaths = "registeredBy")   // 등록자 함께 조회 (N+1 방지)
     List<Book> findByTitleContainingIgnoreCase(String title);
 
     // 저자명으로 책 검색
+    @EntityGraph(attributePaths = "registeredBy")   // 등록자 함께 조회 (N+1 방지)
     List<Book> findByAuthorContaining(String author);
 
     // 특정 회원이 등록한 책 목록 조회
+    @EntityGraph(attributePaths = "registeredBy")   // 등록자 함께 조회 (N+1 방지)
     List<Book> findByRegisteredBy(Member member);
 
     // 가격 범위로 책 검색
+    @EntityGraph(attributePaths = "registeredBy")   // 등록자 함께 조회 (N+1 방지)
     List<Book> findByPriceBetween(Integer minPrice, Integer maxPrice);
 
     // 최신 등록순으로 책 목록 조회 (JPQL 사용)
@@ -45,4 +62,113 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     // 책과 등록자 정보를 함께 조회 (N+1 문제 방지)
     @Query("SELECT b FROM Book b LEFT JOIN FETCH b.registeredBy ORDER BY b.createdAt DESC")
     List<Book> findAllWithMember();
-}
\ No newline at end of file
+
+    // 책 상세 조회 (등록자 포함) - 캐시에 저장해도 지연 로딩 없이 사용할 수 있도록 페치 조인
+    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.registeredBy WHERE b.id = :id")
+    Optional<Book> findByIdWithMember(@Param("id") Long id);
+
+    // ====== 소유자 조건부 수정/삭제 (BookService.update, delete) ======
+    // 조회 → 권한 확인 → 저장 대신 조건을 붙인 UPDATE/DELETE 한 번으로 처리한다.
+    // 반환값(영향받은 행 수)이 0이면 책이 없거나, 본인 책이 아니거나, 버전이 달라진 경우다.
+    // 벌크 쿼리는 엔티티 리스너(EntityCacheListener)를 거치지 않으므로 캐시 제거는 서비스에서 한다.
+
+    // 본인 책이고 버전(수정 폼을 열 때/상세 조회 때의 값)이 같을 때만 수정
+    @Modifying
+    @Query("UPDATE Book b SET b.title = :title, b.price = :price, b.author = :author, b.page = :page, " +
+           "b.description = :description, b.updatedAt = :updatedAt, b.version = b.version + 1 " +
+           "WHERE b.id = :id AND b.registeredBy.id = :memberId AND b.version = :version")
+    int updateOwned(@Param("id") Long id,
+                    @Param("memberId") Long memberId,
+                    @Param("version") Long version,
+                    @Param("title") String title,
+                    @Param("price") Integer price,
+                    @Param("author") String author,
+                    @Param("page") Integer page,
+                    @Param("description") String description,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 등록자가 memberId인 책만 삭제 (관리자는 BookService에서 등록자를 먼저 확인)
+    @Modifying
+    @Query("DELETE FROM Book b WHERE b.id = :id AND b.registeredBy.id = :memberId")
+    int deleteOwned(@Param("id") Long id,
+                    @Param("memberId") Long memberId);
+
+    // 수정/삭제가 0건일 때 원인 확인, 관리자 삭제 시 등록자 확인용 (등록자 id, 버전)
+    @Query("SELECT b.registeredBy.id AS memberId, b.version AS version FROM Book b WHERE b.id = :id")
+    Optional<Ownership> findOwnership(@Param("id") Long id);
+
+    // findOwnership 결과 (인터페이스 프로젝션)
+    interface Ownership {
+        Long getMemberId();
+
+        Long getVersion();
+    }
+
+    // ====== 목록/검색 화면용 프로젝션 (BookSummary) ======
+    // 화면에 표시하는 컬럼만 SELECT 한다. 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않는다.
+    // 등록자는 일반 조인으로 이름/아이디만 가져온다. (Member 엔티티와 EAGER roles를 로딩하지 않음)
+    String SUMMARY_SELECT = "SELECT new com.example.security.dto.BookSummary(" +
+            "b.id, b.title, b.author, b.price, b.page, b.createdAt, m.username, m.name) " +
+            "FROM Book b LEFT JOIN b.registeredBy m ";
+
+    // ====== 키셋(Seek) 페이지네이션 ======
+    // 정렬 키: (createdAt DESC, id DESC)
+    // OFFSET 없이 커서 위치부터 바로 읽으므로 몇 번째 페이지든 비용이 같다.
+    // 조건은 "createdAt <= 커서 AND (...)" 형태로 써서 idx_book_created_at 범위 검색이 되도록 한다.
+    // (OR만 있으면 인덱스를 타지 못하고 테이블 전체를 읽을 수 있음)
+    // Pageable은 LIMIT 용도로만 사용 (PageRequest.of(0, size)) - List 반환이므로 COUNT 쿼리는 실행되지 않음
+
+    // 첫 페이지 (가장 최신 책부터)
+    @Query(SUMMARY_SELECT +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookSummary> findFirstPageSummaries(Pageable pageable);
+
+    // 다음 페이지: 커서보다 오래된 책
+    @Query(SUMMARY_SELECT +
+           "WHERE b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookSummary> findPageAfterSummaries(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    // 이전 페이지: 커서보다 최신인 책 (커서에 가까운 순서로 읽은 뒤 서비스에서 뒤집는다)
+    @Query(SUMMARY_SELECT +
+           "WHERE b.createdAt >= :createdAt AND (b.createdAt > :createdAt OR b.id > :id) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<BookSummary> findPageBeforeSummaries(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // 특정 회원이 등록한 책 목록 (최신순, idx_book_member_created_at 사용)
+    @Query(SUMMARY_SELECT +
+           "WHERE b.registeredBy.id = :memberId ORDER BY b.createdAt DESC")
+    List<BookSummary> findSummariesByMemberId(@Param("memberId") Long memberId);
+
+    // 검색 결과 id 목록으로 조회 (순서는 보장되지 않음)
+    @Query(SUMMARY_SELECT +
+           "WHERE b.id IN :ids")
+    List<BookSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ====== 스트리밍 조회 (전체 목록 보기용) ======
+    // List 대신 Stream으로 반환하여 한 번에 FETCH_SIZE 건씩만 DB에서 가져온다.
+    // - 반드시 트랜잭션 안에서 사용하고, 사용 후 close() 해야 한다. (try-with-resources)
+    // - MySQL은 URL에 useCursorFetch=true 가 있어야 fetch size가 서버 커서로 동작한다.
+    // - READ_ONLY: 스냅샷을 만들지 않아 더티 체킹 비용이 없다.
+    int STREAM_FETCH_SIZE = 500;
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.registeredBy ORDER BY b.createdAt DESC, b.id DESC")
+    Stream<Book> streamAllWithMember();
+
+    // 검색 색인 생성용: 등록자 없이 책만 스트리밍 (registeredBy는 LAZY라 조회되지 않음)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b")
+    Stream<Book> streamAll();
+
+}
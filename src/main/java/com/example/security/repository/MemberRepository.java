@@ -4,9 +4,13 @@ import com.example.security.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
     public Optional<Member> findByUsername(String username);
+
+    // 주어진 username 중 존재하는 회원 수 (초기 데이터 생성 여부 확인용)
+    long countByUsernameIn(Collection<String> usernames);
 }
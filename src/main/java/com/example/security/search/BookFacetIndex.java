@@ -0,0 +1,442 @@
+package com.example.security.search;
+
+import com.example.security.dto.FacetValue;
+import com.example.security.entity.Book;
+import com.example.security.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 책 패싯(가격대, 페이지 수 구간, 저자) 메모리 색인
+ *
+ * 요청마다 GROUP BY로 집계하지 않고, 책이 등록/수정/삭제될 때 색인과 개수를 갱신해 둔다.
+ * - 패싯 값마다 책 id 비트셋(BitSet)을 두고, 조건에 맞는 책 목록은 비트셋 AND/OR로 계산
+ * - 패싯별 개수는 "자기 자신을 뺀 나머지 필터"를 적용해서 센다.
+ *   (가격대를 하나 고른 상태에서도 다른 가격대를 골랐을 때의 책 수를 보여줄 수 있음)
+ * - 개수는 가격대 × 페이지 구간 칸(cell)별로 미리 세어 두고 칸 단위로 더한다.
+ *   필터가 걸려도 책 비트를 하나씩 훑지 않으므로 비용이 책 수와 무관 (칸 20개, 저자 패싯은 해당 칸의 저자 수)
+ * 시작 시 DB에서 한 번 전체 색인, 이후 책 변경 이벤트(BookEventBus)로 갱신한다. (BookSearchIndex와 같음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookFacetIndex implements BookIndex {
+
+    // 가격대 하한 (원), 마지막 구간은 상한 없음
+    private static final int[] PRICE_BOUNDS = {0, 10_000, 20_000, 30_000, 50_000};
+    private static final String[] PRICE_LABELS = {"1만원 미만", "1만~2만원", "2만~3만원", "3만~5만원", "5만원 이상"};
+
+    // 페이지 수 구간 하한, 마지막 구간은 상한 없음
+    private static final int[] PAGE_BOUNDS = {0, 200, 400, 700};
+    private static final String[] PAGE_LABELS = {"200쪽 미만", "200~400쪽", "400~700쪽", "700쪽 이상"};
+
+    private static final int CELLS = PRICE_BOUNDS.length * PAGE_BOUNDS.length;
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+
+    // 책 id → 패싯 값 (수정/삭제 시 기존 값 제거용)
+    private final Map<Long, Facets> documents = new HashMap<>();
+    // 패싯 값 → 책 id 비트셋
+    private final BitSet all = new BitSet();
+    private final BitSet[] priceBits = newBitSets(PRICE_BOUNDS.length);
+    private final BitSet[] pageBits = newBitSets(PAGE_BOUNDS.length);
+    private final Map<String, BitSet> authorBits = new HashMap<>();
+    // 칸(가격대 × 페이지 구간)별 개수
+    private final int[] cellCounts = new int[CELLS];
+    private final List<Map<String, Integer>> cellAuthorCounts = newCounts(CELLS);   // 칸 → 저자 → 책 수
+    private final Map<String, int[]> authorCellCounts = new HashMap<>();           // 저자 → 칸별 책 수
+    private final Map<String, Integer> authorCounts = new HashMap<>();             // 필터가 없을 때의 저자별 책 수
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 책 하나의 패싯 값
+     */
+    private static final class Facets {
+        final int price;      // 가격대 번호
+        final int page;       // 페이지 구간 번호
+        final String author;
+
+        Facets(Book book) {
+            this.price = bucket(PRICE_BOUNDS, book.getPrice());
+            this.page = bucket(PAGE_BOUNDS, book.getPage());
+            this.author = book.getAuthor() != null ? book.getAuthor().trim() : "";
+        }
+
+        int cell() {
+            return BookFacetIndex.cell(price, page);
+        }
+    }
+
+    /**
+     * 탐색 결과: 조건에 맞는 책 id(최근 등록순)와 패싯별 개수
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Result {
+        private final List<Long> ids;
+        private final boolean hasNext;
+        private final int total;
+        private final List<FacetValue> prices;
+        private final List<FacetValue> pages;
+        private final List<FacetValue> authors;
+    }
+
+    /**
+     * 전체 색인 (BookEventBus 소비 스레드에서 첫 이벤트를 반영하기 전에 실행)
+     * 색인하는 동안 발행된 이벤트는 버퍼에 쌓였다가 끝난 뒤 반영되므로 중간 변경을 덮어쓰지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void initialize() {
+        long start = System.currentTimeMillis();
+        Map<Long, Facets> loaded = new HashMap<>();
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            books.forEach(book -> {
+                if (indexable(book.getId())) {
+                    loaded.put(book.getId(), new Facets(book));
+                }
+                entityManager.detach(book);
+            });
+        }
+
+        int authorCount;
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            all.clear();
+            clear(priceBits);
+            clear(pageBits);
+            authorBits.clear();
+            Arrays.fill(cellCounts, 0);
+            cellAuthorCounts.forEach(Map::clear);
+            authorCellCounts.clear();
+            authorCounts.clear();
+            loaded.forEach(this::put);
+            authorCount = authorCounts.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("도서 패싯 색인 완료: {}권, 저자 {}명, {}ms",
+                loaded.size(), authorCount, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 책 색인 추가 또는 갱신 (BookCreated, BookUpdated 이벤트)
+     */
+    public void index(Book book) {
+        if (!indexable(book.getId())) {
+            return;
+        }
+        Facets facets = new Facets(book);
+        lock.writeLock().lock();
+        try {
+            removeInternal(book.getId());
+            put(book.getId(), facets);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 책 색인 제거 (BookDeleted 이벤트)
+     */
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 책과 패싯별 개수 조회
+     *
+     * 같은 패싯 안에서는 OR, 서로 다른 패싯끼리는 AND.
+     * (예: 가격대 1만~2만원 또는 2만~3만원 이면서 저자가 남궁성)
+     *
+     * @param prices      가격대 번호 (비어 있으면 조건 없음)
+     * @param pages       페이지 구간 번호 (비어 있으면 조건 없음)
+     * @param authors     저자 (비어 있으면 조건 없음)
+     * @param after       이 id보다 오래된 책부터 (다음 페이지, null이면 처음부터)
+     * @param limit       반환할 책 수
+     * @param authorLimit 반환할 저자 패싯 수 (선택된 저자는 항상 포함)
+     */
+    public Result browse(Set<Integer> prices, Set<Integer> pages, Set<String> authors,
+                         Long after, int limit, int authorLimit) {
+        lock.readLock().lock();
+        try {
+            BitSet priceMask = prices.isEmpty() ? null : union(priceBits, prices);
+            BitSet pageMask = pages.isEmpty() ? null : union(pageBits, pages);
+            BitSet authorMask = authors.isEmpty() ? null : unionAuthors(authors);
+
+            BitSet matched = intersect(priceMask, pageMask, authorMask);
+
+            // 최근 등록순 = id 내림차순
+            List<Long> ids = new ArrayList<>(limit);
+            int from = after == null ? matched.length() - 1 : (int) Math.min(after - 1, Integer.MAX_VALUE);
+            int i = from < 0 ? -1 : matched.previousSetBit(from);
+            while (i >= 0 && ids.size() < limit) {
+                ids.add((long) i);
+                i = i == 0 ? -1 : matched.previousSetBit(i - 1);
+            }
+            boolean hasNext = i >= 0;
+
+            // 칸별 개수를 더해서 패싯 개수 계산 (각 패싯은 자기 조건을 뺀 나머지 조건만 적용)
+            boolean[] priceOn = selection(prices, PRICE_BOUNDS.length);
+            boolean[] pageOn = selection(pages, PAGE_BOUNDS.length);
+            List<int[]> selectedAuthors = authors.isEmpty() ? null : authorCells(authors);
+            int[] priceTotals = new int[PRICE_BOUNDS.length];
+            int[] pageTotals = new int[PAGE_BOUNDS.length];
+            int total = 0;
+            for (int p = 0; p < PRICE_BOUNDS.length; p++) {
+                for (int g = 0; g < PAGE_BOUNDS.length; g++) {
+                    int count = count(cell(p, g), selectedAuthors);
+                    if (pageOn[g]) {
+                        priceTotals[p] += count;
+                    }
+                    if (priceOn[p]) {
+                        pageTotals[g] += count;
+                    }
+                    if (priceOn[p] && pageOn[g]) {
+                        total += count;
+                    }
+                }
+            }
+
+            List<FacetValue> priceFacets = bucketFacets(PRICE_LABELS, priceTotals, prices);
+            List<FacetValue> pageFacets = bucketFacets(PAGE_LABELS, pageTotals, pages);
+            List<FacetValue> authorFacets = authorFacets(authors, authorLimit,
+                    prices.isEmpty() && pages.isEmpty() ? authorCounts : authorCounts(priceOn, pageOn));
+
+            return new Result(ids, hasNext, total, priceFacets, pageFacets, authorFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가격대/페이지 구간 패싯
+    private static List<FacetValue> bucketFacets(String[] labels, int[] counts, Set<Integer> selected) {
+        List<FacetValue> facets = new ArrayList<>(labels.length);
+        for (int b = 0; b < labels.length; b++) {
+            facets.add(new FacetValue(String.valueOf(b), labels[b], counts[b], selected.contains(b)));
+        }
+        return facets;
+    }
+
+    // 저자 패싯: 책 수 많은 순 상위 authorLimit명 (전체 정렬 없이 authorLimit 크기의 힙으로 추림)
+    private static List<FacetValue> authorFacets(Set<String> selected, int authorLimit, Map<String, Integer> counts) {
+        Comparator<Map.Entry<String, Integer>> rank = Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<String, Integer>> top = new PriorityQueue<>(rank.reversed());   // 맨 앞이 가장 낮은 순위
+        for (Map.Entry<String, Integer> e : counts.entrySet()) {
+            top.offer(e);
+            if (top.size() > authorLimit) {
+                top.poll();
+            }
+        }
+
+        List<FacetValue> facets = new ArrayList<>(top.size() + selected.size());
+        for (Map.Entry<String, Integer> e : top) {
+            facets.add(new FacetValue(e.getKey(), e.getKey(), e.getValue(), selected.contains(e.getKey())));
+        }
+        // 선택한 저자가 상위 목록에 없어도 표시 (선택 해제할 수 있도록)
+        for (String author : selected) {
+            if (facets.stream().noneMatch(f -> f.getKey().equals(author))) {
+                facets.add(new FacetValue(author, author, counts.getOrDefault(author, 0), true));
+            }
+        }
+        facets.sort(Comparator.comparing(FacetValue::getCount).reversed()
+                .thenComparing(FacetValue::getKey));
+        return facets;
+    }
+
+    // 가격대/페이지 조건에 맞는 칸의 저자별 개수를 합산 (해당 칸에 책이 있는 저자 수에 비례)
+    private Map<String, Integer> authorCounts(boolean[] priceOn, boolean[] pageOn) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int p = 0; p < PRICE_BOUNDS.length; p++) {
+            for (int g = 0; g < PAGE_BOUNDS.length; g++) {
+                if (priceOn[p] && pageOn[g]) {
+                    cellAuthorCounts.get(cell(p, g)).forEach((author, n) -> counts.merge(author, n, Integer::sum));
+                }
+            }
+        }
+        return counts;
+    }
+
+    // 선택한 저자들의 칸별 개수 (색인에 없는 저자는 제외)
+    private List<int[]> authorCells(Collection<String> authors) {
+        List<int[]> cells = new ArrayList<>(authors.size());
+        for (String author : authors) {
+            int[] counts = authorCellCounts.get(author);
+            if (counts != null) {
+                cells.add(counts);
+            }
+        }
+        return cells;
+    }
+
+    // 칸 하나의 책 수 (authors가 null이면 저자 조건 없음, 책마다 저자는 하나이므로 저자별 개수를 더하면 됨)
+    private int count(int cell, List<int[]> authors) {
+        if (authors == null) {
+            return cellCounts[cell];
+        }
+        int sum = 0;
+        for (int[] counts : authors) {
+            sum += counts[cell];
+        }
+        return sum;
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출
+    private void put(Long bookId, Facets facets) {
+        int bit = bookId.intValue();
+        documents.put(bookId, facets);
+        all.set(bit);
+        priceBits[facets.price].set(bit);
+        pageBits[facets.page].set(bit);
+        authorBits.computeIfAbsent(facets.author, a -> new BitSet()).set(bit);
+        int cell = facets.cell();
+        cellCounts[cell]++;
+        cellAuthorCounts.get(cell).merge(facets.author, 1, Integer::sum);
+        authorCellCounts.computeIfAbsent(facets.author, a -> new int[CELLS])[cell]++;
+        authorCounts.merge(facets.author, 1, Integer::sum);
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출
+    private void removeInternal(Long bookId) {
+        Facets facets = documents.remove(bookId);
+        if (facets == null) {
+            return;
+        }
+        int bit = bookId.intValue();
+        all.clear(bit);
+        priceBits[facets.price].clear(bit);
+        pageBits[facets.page].clear(bit);
+        int cell = facets.cell();
+        cellCounts[cell]--;
+        cellAuthorCounts.get(cell).computeIfPresent(facets.author, (a, n) -> n > 1 ? n - 1 : null);
+        authorCellCounts.get(facets.author)[cell]--;
+
+        BitSet authored = authorBits.get(facets.author);
+        authored.clear(bit);
+        if (authored.isEmpty()) {
+            authorBits.remove(facets.author);
+            authorCellCounts.remove(facets.author);
+            authorCounts.remove(facets.author);
+        } else {
+            authorCounts.merge(facets.author, -1, Integer::sum);
+        }
+    }
+
+    // 비트셋 인덱스는 int이므로 그 범위의 id만 색인
+    private boolean indexable(Long bookId) {
+        if (bookId == null || bookId < 0 || bookId > Integer.MAX_VALUE) {
+            log.warn("패싯 색인 범위를 벗어난 책 id: {}", bookId);
+            return false;
+        }
+        return true;
+    }
+
+    // null이 아닌 조건만 AND (모두 null이면 전체)
+    // 조건 비트셋은 browse에서 새로 만든 것이므로 첫 조건에 바로 AND하고, 전체 비트셋은 복사하지 않고 읽기만 한다.
+    private BitSet intersect(BitSet a, BitSet b, BitSet c) {
+        BitSet result = null;
+        for (BitSet mask : new BitSet[]{a, b, c}) {
+            if (mask == null) {
+                continue;
+            }
+            if (result == null) {
+                result = mask;
+            } else {
+                result.and(mask);
+            }
+        }
+        return result != null ? result : all;
+    }
+
+    private static BitSet union(BitSet[] bits, Collection<Integer> buckets) {
+        BitSet result = new BitSet();
+        for (Integer b : buckets) {
+            if (b != null && b >= 0 && b < bits.length) {
+                result.or(bits[b]);
+            }
+        }
+        return result;
+    }
+
+    private BitSet unionAuthors(Collection<String> authors) {
+        BitSet result = new BitSet();
+        for (String author : authors) {
+            BitSet bits = authorBits.get(author);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    // 선택한 구간 번호 → 구간별 포함 여부 (비어 있으면 조건 없음 = 전부 포함, 범위 밖 번호는 무시)
+    private static boolean[] selection(Set<Integer> selected, int size) {
+        boolean[] on = new boolean[size];
+        for (int b = 0; b < size; b++) {
+            on[b] = selected.isEmpty() || selected.contains(b);
+        }
+        return on;
+    }
+
+    private static int cell(int price, int page) {
+        return price * PAGE_BOUNDS.length + page;
+    }
+
+    private static int bucket(int[] bounds, Integer value) {
+        int v = value != null ? value : 0;
+        for (int b = bounds.length - 1; b > 0; b--) {
+            if (v >= bounds[b]) {
+                return b;
+            }
+        }
+        return 0;
+    }
+
+    private static BitSet[] newBitSets(int size) {
+        BitSet[] bits = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            bits[i] = new BitSet();
+        }
+        return bits;
+    }
+
+    private static List<Map<String, Integer>> newCounts(int size) {
+        List<Map<String, Integer>> counts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            counts.add(new HashMap<>());
+        }
+        return counts;
+    }
+
+    private static void clear(BitSet[] bits) {
+        for (BitSet b : bits) {
+            b.clear();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.security.search;
+
+import com.example.security.entity.Book;
+import com.example.security.event.BookCreated;
+import com.example.security.event.BookDeleted;
+import com.example.security.event.BookEvent;
+import com.example.security.event.BookEventListener;
+import com.example.security.event.BookUpdated;
+
+import java.util.List;
+
+/**
+ * 책 변경 이벤트로 갱신되는 메모리 색인 (검색, 패싯, 자동완성)
+ */
+interface BookIndex extends BookEventListener {
+
+    /**
+     * 책 색인 추가 또는 갱신
+     */
+    void index(Book book);
+
+    /**
+     * 책 색인 제거
+     */
+    void remove(Long bookId);
+
+    @Override
+    default void onEvents(List<BookEvent> events) {
+        for (BookEvent event : events) {
+            if (event instanceof BookCreated created) {
+                index(created.getBook());
+            } else if (event instanceof BookUpdated updated) {
+                index(updated.getBook());
+            } else if (event instanceof BookDeleted) {
+                remove(event.getBookId());
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.security.search;
+
+import com.example.security.entity.Book;
+import com.example.security.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 책 검색용 메모리 역색인(Inverted Index)
+ *
+ * LIKE '%검색어%' 는 인덱스를 쓸 수 없어 매번 테이블 전체를 읽는다.
+ * 대신 애플리케이션 메모리에 "토큰 → 책 id 목록" 색인을 만들어 두고 검색한다.
+ * - 색인 대상: 제목, 저자, 설명 (필드별 가중치 적용)
+ * - 시작 시 DB에서 한 번 전체 색인, 이후 책 변경 이벤트(BookEventBus)로 갱신
+ * - 검색 결과는 점수순 책 id 목록이며, 실제 엔티티는 서비스에서 IN 쿼리 한 번으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex implements BookIndex {
+
+    // 필드 구분 (비트 마스크)
+    public static final int FIELD_TITLE = 1;
+    public static final int FIELD_AUTHOR = 1 << 1;
+    public static final int FIELD_DESCRIPTION = 1 << 2;
+    public static final int ALL_FIELDS = FIELD_TITLE | FIELD_AUTHOR | FIELD_DESCRIPTION;
+
+    // 필드별 가중치: 제목에서 찾은 단어가 설명에서 찾은 단어보다 중요
+    private static final int TITLE_WEIGHT = 5;
+    private static final int AUTHOR_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+
+    // 토큰 → (책 id → 출현 정보). 정렬된 Map이라 영문 접두사 검색이 가능
+    private final TreeMap<String, Map<Long, Posting>> postings = new TreeMap<>();
+    // 책 id → 색인된 토큰 (수정/삭제 시 기존 토큰 제거용)
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 토큰이 한 책에서 등장한 정보
+     */
+    private static final class Posting {
+        int fields;   // 등장한 필드 (비트 마스크)
+        int score;    // 필드 가중치 × 등장 횟수
+    }
+
+    /**
+     * 전체 색인 (BookEventBus 소비 스레드에서 첫 이벤트를 반영하기 전에 실행)
+     * 색인하는 동안 발행된 이벤트는 버퍼에 쌓였다가 끝난 뒤 반영되므로 중간 변경을 덮어쓰지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void initialize() {
+        long start = System.currentTimeMillis();
+        Map<Long, Map<String, Posting>> documents = new HashMap<>();
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            books.forEach(book -> {
+                documents.put(book.getId(), analyze(book));
+                entityManager.detach(book);
+            });
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            documents.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("도서 검색 색인 완료: {}권, {}개 토큰, {}ms",
+                documents.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 책 색인 추가 또는 갱신 (BookCreated, BookUpdated 이벤트)
+     */
+    public void index(Book book) {
+        Map<String, Posting> terms = analyze(book);
+        lock.writeLock().lock();
+        try {
+            removeInternal(book.getId());
+            put(book.getId(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 책 색인 제거 (BookDeleted 이벤트)
+     */
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 책 id를 점수 높은 순으로 반환
+     *
+     * - 검색어의 모든 토큰이 포함된 책만 반환 (AND 검색)
+     * - 영문 토큰은 접두사 일치 ("spr" → spring)
+     * - 점수: Σ (필드 가중치 × 등장 횟수 × idf), 동점이면 최근 등록(id 큰) 순
+     *
+     * @param keyword 검색어
+     * @param fields  검색할 필드 (FIELD_* 조합)
+     * @param limit   최대 결과 수
+     */
+    public List<Long> search(String keyword, int fields, int limit) {
+        List<String> queryTerms = BookTokenizer.queryTerms(keyword);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int totalDocs = Math.max(documentTerms.size(), 1);
+            Map<Long, Double> scores = null;
+
+            for (String term : queryTerms) {
+                Map<Long, Double> matched = new HashMap<>();
+                NavigableMap<String, Map<Long, Posting>> range =
+                        postings.subMap(term, true, term + Character.MAX_VALUE, false);
+
+                for (Map<Long, Posting> docs : range.values()) {
+                    double idf = Math.log(1.0 + (double) totalDocs / docs.size());
+                    for (Map.Entry<Long, Posting> e : docs.entrySet()) {
+                        Posting p = e.getValue();
+                        if ((p.fields & fields) != 0) {
+                            matched.merge(e.getKey(), p.score * idf, Double::sum);
+                        }
+                    }
+                }
+
+                // AND: 이전 토큰까지 일치한 책과의 교집합
+                if (scores == null) {
+                    scores = matched;
+                } else {
+                    Map<Long, Double> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<Long, Double> e : matched.entrySet()) {
+                        Double score = previous.get(e.getKey());
+                        if (score != null) {
+                            scores.put(e.getKey(), score + e.getValue());
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())));
+
+            List<Long> ids = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = 0; i < ranked.size() && i < limit; i++) {
+                ids.add(ranked.get(i).getKey());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 책 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 책 하나를 토큰 → 출현 정보로 변환 (잠금 밖에서 실행)
+    private Map<String, Posting> analyze(Book book) {
+        Map<String, Posting> terms = new HashMap<>();
+        addField(terms, book.getTitle(), FIELD_TITLE, TITLE_WEIGHT);
+        addField(terms, book.getAuthor(), FIELD_AUTHOR, AUTHOR_WEIGHT);
+        addField(terms, book.getDescription(), FIELD_DESCRIPTION, DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private void addField(Map<String, Posting> terms, String text, int field, int weight) {
+        for (String term : BookTokenizer.indexTerms(text)) {
+            Posting p = terms.computeIfAbsent(term, t -> new Posting());
+            p.fields |= field;
+            p.score += weight;
+        }
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출
+    private void put(Long bookId, Map<String, Posting> terms) {
+        terms.forEach((term, posting) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(bookId, posting));
+        documentTerms.put(bookId, terms.keySet());
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출
+    private void removeInternal(Long bookId) {
+        Set<String> terms = documentTerms.remove(bookId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Posting> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(bookId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
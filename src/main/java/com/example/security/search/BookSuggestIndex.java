@@ -0,0 +1,426 @@
+package com.example.security.search;
+
+import com.example.security.dto.Suggestion;
+import com.example.security.entity.Book;
+import com.example.security.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 제목/저자 자동완성용 트라이(Trie)
+ *
+ * 입력한 접두사로 시작하는 제목과 저자를 책 수가 많은 순으로 돌려준다.
+ * - 키는 한글을 자모로 분해한 문자열 (입력 중인 "잡"으로 "자바"를 찾을 수 있음, HangulJamo)
+ * - 단어마다 시작점을 색인하여 중간 단어로도 찾는다. ("정석" → "자바의 정석")
+ * - 초성만으로도 찾는다. ("ㅈㅂ" → "자바의 정석")
+ * - 노드마다 상위 TOP_K개 후보를 미리 계산해 두므로 조회는 접두사 길이만큼만 내려가면 끝난다.
+ * 시작 시 DB에서 한 번 전체 색인, 이후 책 변경 이벤트(BookEventBus)로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSuggestIndex implements BookIndex {
+
+    public static final int TOP_K = 10;
+    public static final String TYPE_TITLE = "title";
+    public static final String TYPE_AUTHOR = "author";
+
+    private static final int MAX_KEY_LENGTH = 30;   // 키(자모) 최대 길이 - 트라이 깊이 제한
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+
+    private final Node root = new Node();
+    // (종류, 문구) → 후보. 같은 제목/저자의 책이 여러 권이면 weight가 늘어남
+    private final Map<String, Entry> entries = new HashMap<>();
+    // 책 id → 색인한 제목/저자 (수정/삭제 시 기존 값 제거용)
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 자동완성 후보 하나 (제목 또는 저자)
+     */
+    private static final class Entry {
+        final String type;
+        final String text;
+        final String[] keys;   // 이 후보가 색인된 트라이 키들
+        int weight;            // 책 수
+
+        Entry(String type, String text) {
+            this.type = type;
+            this.text = text;
+            this.keys = keysOf(text);
+        }
+
+        boolean outranks(Entry other) {
+            return weight != other.weight ? weight > other.weight : text.compareTo(other.text) < 0;
+        }
+    }
+
+    /**
+     * 트라이 노드 (자식은 정렬된 배열 + 이진 탐색으로 메모리 절약)
+     */
+    private static final class Node {
+        char[] labels = new char[0];
+        Node[] children = new Node[0];
+        List<Entry> terminals;          // 키가 여기서 끝나는 후보
+        Entry[] top = new Entry[0];     // 이 노드 아래 전체에서 상위 TOP_K (weight 내림차순)
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newLabels[at] = c;
+            newChildren[at] = new Node();
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(labels, i + 1, newLabels, i, labels.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return labels.length == 0 && (terminals == null || terminals.isEmpty());
+        }
+    }
+
+    /**
+     * 전체 색인 (BookEventBus 소비 스레드에서 첫 이벤트를 반영하기 전에 실행)
+     * 색인하는 동안 발행된 이벤트는 버퍼에 쌓였다가 끝난 뒤 반영되므로 중간 변경을 덮어쓰지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void initialize() {
+        long start = System.currentTimeMillis();
+        Map<Long, String[]> loaded = new HashMap<>();
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            books.forEach(book -> {
+                loaded.put(book.getId(), new String[]{clean(book.getTitle()), clean(book.getAuthor())});
+                entityManager.detach(book);
+            });
+        }
+
+        lock.writeLock().lock();
+        try {
+            clearNode(root);
+            entries.clear();
+            documents.clear();
+            // 후보별 책 수를 먼저 센 뒤 트라이에 넣고, 상위 후보는 마지막에 한 번에 계산
+            loaded.forEach((id, terms) -> {
+                documents.put(id, terms);
+                count(TYPE_TITLE, terms[0], 1);
+                count(TYPE_AUTHOR, terms[1], 1);
+            });
+            for (Entry entry : entries.values()) {
+                for (String key : entry.keys) {
+                    endNode(key, true).terminals.add(entry);
+                }
+            }
+            computeTop(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("자동완성 색인 완료: 후보 {}개, {}ms", entries.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 책 색인 추가 또는 갱신 (BookCreated, BookUpdated 이벤트)
+     */
+    public void index(Book book) {
+        String[] terms = {clean(book.getTitle()), clean(book.getAuthor())};
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.put(book.getId(), terms);
+            if (previous != null) {
+                update(TYPE_TITLE, previous[0], -1);
+                update(TYPE_AUTHOR, previous[1], -1);
+            }
+            update(TYPE_TITLE, terms[0], 1);
+            update(TYPE_AUTHOR, terms[1], 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 책 색인 제거 (BookDeleted 이벤트)
+     */
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(bookId);
+            if (previous != null) {
+                update(TYPE_TITLE, previous[0], -1);
+                update(TYPE_AUTHOR, previous[1], -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 제목/저자 (책 수 많은 순)
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 개수 (TOP_K 이하)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalizeKey(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            int n = Math.min(Math.min(limit, TOP_K), node.top.length);
+            List<Suggestion> result = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Entry e = node.top[i];
+                result.add(new Suggestion(e.text, e.type, e.weight));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ====== 내부 구현 (쓰기 잠금을 잡은 상태에서 호출) ======
+
+    // rebuild용: 트라이 갱신 없이 책 수만 셈
+    private void count(String type, String text, int delta) {
+        if (text.isEmpty()) {
+            return;
+        }
+        entries.computeIfAbsent(type + '\u0000' + text, k -> new Entry(type, text)).weight += delta;
+    }
+
+    // 책 수 변경을 트라이에 반영
+    private void update(String type, String text, int delta) {
+        if (text.isEmpty()) {
+            return;
+        }
+        String id = type + '\u0000' + text;
+        Entry entry = entries.get(id);
+        boolean added = entry == null;
+        if (added) {
+            entry = new Entry(type, text);
+            entries.put(id, entry);
+        }
+        entry.weight += delta;
+
+        if (entry.weight <= 0) {
+            entries.remove(id);
+            for (String key : entry.keys) {
+                removeKey(key, entry);
+            }
+            return;
+        }
+        for (String key : entry.keys) {
+            List<Node> path = path(key, added);
+            if (added) {
+                path.get(path.size() - 1).terminals.add(entry);
+            }
+            if (delta > 0) {
+                // 순위가 올라가기만 하므로 경로의 상위 목록에 끼워 넣으면 됨
+                for (Node node : path) {
+                    promote(node, entry);
+                }
+            } else {
+                // 순위가 내려가면 아래에서 다른 후보가 올라올 수 있으므로 경로를 아래부터 다시 계산
+                for (int i = path.size() - 1; i >= 0; i--) {
+                    if (contains(path.get(i).top, entry)) {
+                        recomputeTop(path.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeKey(String key, Entry entry) {
+        List<Node> path = path(key, false);
+        if (path.size() != key.length() + 1) {
+            return;
+        }
+        Node end = path.get(path.size() - 1);
+        if (end.terminals != null) {
+            end.terminals.remove(entry);
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            if (i > 0 && node.isEmpty()) {
+                path.get(i - 1).removeChild(key.charAt(i - 1));   // 빈 노드 정리
+            } else if (contains(node.top, entry)) {
+                recomputeTop(node);
+            }
+        }
+    }
+
+    // 루트부터 키 끝까지의 노드 (create=false면 없는 곳에서 멈춤)
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = create ? node.addChild(key.charAt(i)) : node.child(key.charAt(i));
+            if (node == null) {
+                break;
+            }
+            path.add(node);
+        }
+        if (create && path.get(path.size() - 1).terminals == null) {
+            path.get(path.size() - 1).terminals = new ArrayList<>(1);
+        }
+        return path;
+    }
+
+    private Node endNode(String key, boolean create) {
+        List<Node> path = path(key, create);
+        return path.get(path.size() - 1);
+    }
+
+    // entry를 node.top의 알맞은 위치에 넣거나 올림
+    private void promote(Node node, Entry entry) {
+        Entry[] top = node.top;
+        int at = indexOf(top, entry);
+        if (at < 0) {
+            if (top.length == TOP_K && !entry.outranks(top[TOP_K - 1])) {
+                return;
+            }
+            top = Arrays.copyOf(top, Math.min(top.length + 1, TOP_K));
+            at = top.length - 1;
+        }
+        while (at > 0 && entry.outranks(top[at - 1])) {
+            top[at] = top[at - 1];
+            at--;
+        }
+        top[at] = entry;
+        node.top = top;
+    }
+
+    // 이 노드에서 끝나는 후보 + 자식들의 상위 목록을 합쳐 다시 계산
+    private void recomputeTop(Node node) {
+        Set<Entry> candidates = new LinkedHashSet<>();
+        if (node.terminals != null) {
+            candidates.addAll(node.terminals);
+        }
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        node.top = candidates.stream()
+                .sorted((a, b) -> a.outranks(b) ? -1 : b.outranks(a) ? 1 : 0)
+                .limit(TOP_K)
+                .toArray(Entry[]::new);
+    }
+
+    // rebuild용: 아래에서부터 모든 노드의 상위 목록 계산
+    private void computeTop(Node node) {
+        for (Node child : node.children) {
+            computeTop(child);
+        }
+        recomputeTop(node);
+    }
+
+    private static void clearNode(Node node) {
+        node.labels = new char[0];
+        node.children = new Node[0];
+        node.terminals = null;
+        node.top = new Entry[0];
+    }
+
+    private static boolean contains(Entry[] top, Entry entry) {
+        return indexOf(top, entry) >= 0;
+    }
+
+    private static int indexOf(Entry[] top, Entry entry) {
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ====== 키 만들기 ======
+
+    /**
+     * 후보 문구의 트라이 키: 단어마다 그 단어부터 끝까지 (자모 분해), 한글이면 초성 키도 추가
+     * 예) "자바의 정석" → [ㅈㅏㅂㅏㅇㅡㅣ ㅈㅓㅇㅅㅓㄱ, ㅈㅓㅇㅅㅓㄱ, ㅈㅂㅇ ㅈㅅ, ㅈㅅ]
+     */
+    private static String[] keysOf(String text) {
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<String> keys = new LinkedHashSet<>();
+        String initials = HangulJamo.initials(normalized);
+        for (String source : initials == null ? new String[]{normalized} : new String[]{normalized, initials}) {
+            String[] words = source.split(" ");
+            for (int i = 0; i < words.length; i++) {
+                String key = normalizeKey(String.join(" ", Arrays.copyOfRange(words, i, words.length)));
+                if (!key.isEmpty()) {
+                    keys.add(key);
+                }
+            }
+        }
+        return keys.toArray(String[]::new);
+    }
+
+    // 소문자 + 자모 분해 + 공백 정리, 최대 MAX_KEY_LENGTH자
+    private static String normalizeKey(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        HangulJamo.decompose(clean(text).toLowerCase(Locale.ROOT), jamo);
+        return jamo.length() > MAX_KEY_LENGTH ? jamo.substring(0, MAX_KEY_LENGTH) : jamo.toString();
+    }
+
+    // 앞뒤 공백 제거, 연속 공백은 하나로
+    private static String clean(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ");
+    }
+}
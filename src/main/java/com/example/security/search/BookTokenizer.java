@@ -0,0 +1,88 @@
+package com.example.security.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 색인용 토크나이저
+ *
+ * 한글과 영문을 서로 다른 방식으로 토큰화한다.
+ * - 영문/숫자: 공백·기호로 나눈 단어 단위 (소문자 변환)
+ *     "Clean Code" → [clean, code]
+ * - 한글: 형태소 분석기 없이 음절 n-gram 사용 (1-gram + 2-gram)
+ *     "자바의 정석" → [자, 바, 의, 자바, 바의, 정, 석, 정석]
+ *   조사가 붙어도("자바의") "자바"로 검색할 수 있다.
+ */
+final class BookTokenizer {
+
+    private BookTokenizer() {
+    }
+
+    /**
+     * 색인할 문서 텍스트를 토큰화 (한글은 1-gram, 2-gram 모두 생성)
+     */
+    static List<String> indexTerms(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어를 토큰화 (한글은 2-gram, 한 글자일 때만 1-gram)
+     */
+    static List<String> queryTerms(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean forIndex) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+
+            boolean hangul = isHangul(cp);
+            boolean word = hangul || Character.isLetterOrDigit(cp);
+
+            // 문자 종류가 바뀌거나 구분자를 만나면 현재 구간을 마무리
+            if (!word || (run.length() > 0 && hangul != hangulRun)) {
+                flush(run, hangulRun, forIndex, terms);
+            }
+            if (word) {
+                hangulRun = hangul;
+                run.appendCodePoint(Character.toLowerCase(cp));
+            }
+        }
+        flush(run, hangulRun, forIndex, terms);
+        return terms;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, boolean forIndex, List<String> terms) {
+        if (run.length() == 0) {
+            return;
+        }
+        if (!hangul) {
+            terms.add(run.toString());
+        } else if (run.length() == 1) {
+            terms.add(run.toString());
+        } else {
+            if (forIndex) {
+                for (int i = 0; i < run.length(); i++) {
+                    terms.add(String.valueOf(run.charAt(i)));
+                }
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        }
+        run.setLength(0);
+    }
+
+    // 한글 음절(가~힣)과 호환용 자모(ㄱ~ㅣ)
+    private static boolean isHangul(int cp) {
+        return (cp >= 0xAC00 && cp <= 0xD7A3) || (cp >= 0x3131 && cp <= 0x318E);
+    }
+}
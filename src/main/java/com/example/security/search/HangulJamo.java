@@ -0,0 +1,102 @@
+package com.example.security.search;
+
+/**
+ * 한글 음절을 자모로 분해하는 도우미 (자동완성 색인용)
+ *
+ * 입력 중인 글자도 접두사로 일치하도록 자모 단위로 비교한다.
+ * - "자바"를 입력하는 도중에는 "잡"이 보이는데, 자모로 풀면 ㅈㅏㅂ 이 ㅈㅏㅂㅏ 의 접두사가 된다.
+ * - 겹모음/겹받침도 기본 자모로 나눈다. (과 → ㄱㅗㅏ, 닭 → ㄷㅏㄹㄱ)
+ * - 초성만 입력한 경우("ㅈㅂ")를 위해 초성 문자열도 만든다.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    // 초성 19자 (호환용 자모)
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄱㄱ", "ㄴ", "ㄷ", "ㄷㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 초성 19자 (초성 검색용, 된소리는 그대로)
+    private static final char[] CHOSEONG_INITIAL = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    // 중성 21자 (겹모음은 분해)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    // 종성 28자 (첫 번째는 받침 없음, 겹받침은 분해)
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 한글 음절과 호환용 겹자모를 기본 자모로 분해 (그 외 문자는 그대로)
+     */
+    static void decompose(CharSequence text, StringBuilder out) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                out.append(CHOSEONG[index / 588])
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else {
+                out.append(decomposeCompatibility(c));
+            }
+        }
+    }
+
+    /**
+     * 초성 문자열 ("자바의 정석" → "ㅈㅂㅇ ㅈㅅ"), 한글이 없으면 null
+     */
+    static String initials(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean hangul = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                out.append(CHOSEONG_INITIAL[(c - SYLLABLE_BASE) / 588]);
+                hangul = true;
+            } else {
+                out.append(c);
+            }
+        }
+        return hangul ? out.toString() : null;
+    }
+
+    // 입력 중에 단독으로 보이는 겹자모 (ㄲ, ㅘ, ㄺ 등)
+    private static String decomposeCompatibility(char c) {
+        return switch (c) {
+            case 'ㄲ' -> "ㄱㄱ";
+            case 'ㄸ' -> "ㄷㄷ";
+            case 'ㅃ' -> "ㅂㅂ";
+            case 'ㅆ' -> "ㅅㅅ";
+            case 'ㅉ' -> "ㅈㅈ";
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> String.valueOf(c);
+        };
+    }
+}
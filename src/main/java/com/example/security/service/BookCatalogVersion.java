@@ -0,0 +1,151 @@
+package com.example.security.service;
+
+import com.example.security.event.BookEventBus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 책 목록(카탈로그) 전체의 버전 - 목록/검색 API의 ETag, Last-Modified 값
+ *
+ * 책이 등록/수정/삭제될 때마다 증가한다. (BookService, BookImportService, DataInitializer에서 호출)
+ * 서버가 여러 대여도 같은 값을 보도록 DB(book_catalog_version, BookCatalogVersionSlot)에 저장한다.
+ * - 증가는 책을 바꾸는 트랜잭션 안에서 실행되므로 커밋과 함께 보이고, 롤백되면 함께 취소된다.
+ * - 동시에 바뀌어도 한 행에 몰리지 않도록 SLOTS개 행 중 하나를 골라 더하고, 읽을 때 합산한다.
+ * - ETag에 마지막 변경 시각을 포함하여 테이블을 비운 뒤 같은 번호가 다른 내용을 가리키지 않게 한다.
+ *
+ * 조건부 GET(If-None-Match)은 DB를 조회하지 않고 메모리의 마지막 값으로 답한다.
+ * - 이 서버에서 커밋된 변경: 커밋 직후 갱신 필요 표시 → 다음 조회 때 한 번만 DB에서 다시 읽음
+ * - 다른 서버의 변경: app.catalog-version.refresh-interval(기본 1초)마다 DB에서 다시 읽음
+ *   그 사이에는 다른 서버에서 바뀐 목록에 304가 나갈 수 있다. (최대 refresh-interval만큼 늦게 보임)
+ * - DB 읽기는 트랜잭션 밖에서 실행하므로 읽기/쓰기 분리 시에도 주 DB에서 읽는다. (복제 지연 없음)
+ *
+ * 검색/탐색/자동완성은 이 서버의 메모리 색인으로 응답하고, 색인은 커밋 뒤 BookEventBus로 비동기 반영된다.
+ * 그래서 이 API들은 currentIndexed()로 색인이 반영한 이벤트 위치까지 ETag에 포함한다.
+ * (커밋 직후 색인 반영 전 결과에 붙은 ETag는 반영 후 달라지므로, 반영 전 결과가 304로 계속 재사용되지 않음)
+ */
+@Component
+public class BookCatalogVersion {
+
+    static final int SLOTS = 16;
+
+    private static final String INCREMENT_SQL =
+            "UPDATE book_catalog_version SET version = version + 1, updatedAt = GREATEST(updatedAt, ?) WHERE slot = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO book_catalog_version (slot, version, updatedAt) VALUES (?, 1, ?)";
+    private static final String READ_SQL =
+            "SELECT COALESCE(SUM(version), 0), COALESCE(MAX(updatedAt), 0) FROM book_catalog_version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookEventBus bookEvents;
+
+    private volatile Snapshot committed;        // 마지막으로 DB에서 읽은 값
+    private volatile boolean stale = true;      // true면 다음 조회 때 DB에서 다시 읽음
+
+    public BookCatalogVersion(JdbcTemplate jdbcTemplate, BookEventBus bookEvents) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookEvents = bookEvents;
+    }
+
+    /**
+     * 현재 버전 (보통 메모리 값, 이 서버에서 변경이 커밋된 직후에만 DB 조회 1회) - DB에서 읽어 응답하는 API용
+     */
+    public Snapshot current() {
+        Snapshot snapshot = committed;
+        if (stale || snapshot == null) {
+            snapshot = refreshIfStale();
+        }
+        return snapshot;
+    }
+
+    /**
+     * DB에서 다시 읽음 (다른 서버의 변경 반영)
+     * 읽기를 한 번에 하나씩 실행하므로 먼저 시작한 읽기의 이전 값이 나중 값을 덮어쓰지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.catalog-version.refresh-interval:1s}")
+    public synchronized Snapshot refresh() {
+        return load();
+    }
+
+    // 동시에 여러 요청이 stale을 봐도 DB 조회는 한 번
+    private synchronized Snapshot refreshIfStale() {
+        Snapshot snapshot = committed;
+        return stale || snapshot == null ? load() : snapshot;
+    }
+
+    private Snapshot load() {
+        stale = false;   // 읽는 도중 커밋된 변경은 다시 stale을 표시하므로 놓치지 않음
+        Snapshot snapshot = jdbcTemplate.queryForObject(READ_SQL,
+                (rs, rowNum) -> new Snapshot(rs.getLong(1), rs.getLong(2), Snapshot.NOT_INDEXED));
+        committed = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * 현재 버전 + 이 서버의 색인 반영 위치 - 메모리 색인으로 응답하는 API용
+     */
+    public Snapshot currentIndexed() {
+        long applied = bookEvents.appliedSequence();
+        long appliedAt = bookEvents.getLastAppliedAt();
+        Snapshot committed = current();
+        return new Snapshot(committed.version(), Math.max(committed.lastModified(), appliedAt), applied);
+    }
+
+    /**
+     * 카탈로그가 바뀌었음을 기록
+     * 책을 바꾼 트랜잭션 안에서 호출해야 한다. (트랜잭션 밖이면 바로 반영)
+     */
+    public void changed() {
+        int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+        long now = System.currentTimeMillis();
+        if (jdbcTemplate.update(INCREMENT_SQL, now, slot) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, slot, now);
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 같은 행을 먼저 만듦 (MySQL은 실패한 문장만 취소되고 트랜잭션은 계속됨)
+                jdbcTemplate.update(INCREMENT_SQL, now, slot);
+            }
+        }
+        markStaleAfterCommit();
+    }
+
+    // 커밋되면 메모리 값을 버림 (롤백되면 그대로, 트랜잭션 밖이면 바로)
+    private void markStaleAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stale = true;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stale = true;
+            }
+        });
+    }
+
+    /**
+     * @param version      전체 변경 횟수
+     * @param lastModified 마지막 변경 시각 (epoch millis, 변경이 없었으면 0)
+     * @param applied      색인이 반영한 마지막 이벤트 번호 (색인을 쓰지 않는 API는 NOT_INDEXED)
+     */
+    public record Snapshot(long version, long lastModified, long applied) {
+
+        static final long NOT_INDEXED = Long.MIN_VALUE;
+
+        /**
+         * 강한(strong) ETag, 예: "c42-mg3k1x2a", 색인 API는 "c42-mg3k1x2a-a17"
+         */
+        public String eTag() {
+            String eTag = "\"c" + version + "-" + Long.toString(lastModified, 36);
+            if (applied != NOT_INDEXED) {
+                eTag += "-a" + applied;
+            }
+            return eTag + "\"";
+        }
+    }
+}
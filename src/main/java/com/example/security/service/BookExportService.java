@@ -0,0 +1,131 @@
+package com.example.security.service;
+
+import com.example.security.dto.BookFileFormat;
+import com.example.security.entity.Book;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 책 전체 내보내기 서비스 (분석용 덤프)
+ *
+ * BookService.streamAll()로 DB 커서에서 한 건씩 읽어 바로 출력 스트림에 쓴다.
+ * - List를 만들지 않고, 출력한 책은 영속성 컨텍스트에서 분리되므로
+ *   내보내는 책 수와 관계없이 메모리 사용량이 일정하다.
+ * - 컬럼: id, title, author, price, page, description, registeredBy(username), createdAt, updatedAt
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookExportService {
+
+    private static final String CSV_HEADER = "id,title,author,price,page,description,registeredBy,createdAt,updatedAt";
+
+    private final BookService bookService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 모든 책을 지정한 형식으로 출력
+     *
+     * @param out    출력 스트림 (닫지 않음, flush만 수행)
+     * @param format 출력 형식
+     * @return 출력한 책 수
+     */
+    public long export(OutputStream out, BookFileFormat format) throws IOException {
+        long start = System.currentTimeMillis();
+        long[] count = new long[1];
+        try {
+            if (format == BookFileFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                bookService.streamAll(books -> {
+                    for (Book book : books) {
+                        writeCsv(writer, book);
+                        count[0]++;
+                    }
+                });
+                writer.flush();
+            } else {
+                JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+                json.setRootValueSeparator(null);   // 객체 사이 구분자는 직접 쓰는 줄바꿈만 사용
+                bookService.streamAll(books -> {
+                    for (Book book : books) {
+                        writeJson(json, book);
+                        count[0]++;
+                    }
+                });
+                json.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();   // 클라이언트 연결 끊김 등
+        }
+        log.info("책 내보내기 완료: {}건, {}, {}ms", count[0], format, System.currentTimeMillis() - start);
+        return count[0];
+    }
+
+    private void writeCsv(Writer writer, Book book) {
+        try {
+            writer.write(String.valueOf(book.getId()));
+            writer.write(',');
+            writer.write(csv(book.getTitle()));
+            writer.write(',');
+            writer.write(csv(book.getAuthor()));
+            writer.write(',');
+            writer.write(String.valueOf(book.getPrice()));
+            writer.write(',');
+            writer.write(String.valueOf(book.getPage()));
+            writer.write(',');
+            writer.write(csv(book.getDescription()));
+            writer.write(',');
+            writer.write(csv(book.getRegisteredBy() != null ? book.getRegisteredBy().getUsername() : null));
+            writer.write(',');
+            writer.write(book.getCreatedAt() != null ? book.getCreatedAt().toString() : "");
+            writer.write(',');
+            writer.write(book.getUpdatedAt() != null ? book.getUpdatedAt().toString() : "");
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJson(JsonGenerator json, Book book) {
+        try {
+            json.writeStartObject();
+            json.writeNumberField("id", book.getId());
+            json.writeStringField("title", book.getTitle());
+            json.writeStringField("author", book.getAuthor());
+            json.writeNumberField("price", book.getPrice());
+            json.writeNumberField("page", book.getPage());
+            json.writeStringField("description", book.getDescription());
+            json.writeStringField("registeredBy",
+                    book.getRegisteredBy() != null ? book.getRegisteredBy().getUsername() : null);
+            json.writeStringField("createdAt", book.getCreatedAt() != null ? book.getCreatedAt().toString() : null);
+            json.writeStringField("updatedAt", book.getUpdatedAt() != null ? book.getUpdatedAt().toString() : null);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // CSV 필드 이스케이프: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다.
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.security.service;
+
+import com.example.security.csv.CsvRecordReader;
+import com.example.security.dto.BookFileFormat;
+import com.example.security.dto.BookImportResult;
+import com.example.security.dto.BookImportRow;
+import com.example.security.entity.Book;
+import com.example.security.entity.Member;
+import com.example.security.event.BookCreated;
+import com.example.security.event.BookEventBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 책 대량 등록 서비스 (관리자용)
+ *
+ * BookService.register()를 책마다 호출하면 회원 조회 + 단건 INSERT가 반복되고,
+ * Book.id가 IDENTITY 전략이라 Hibernate가 INSERT를 묶어서(batch) 보내지 못한다.
+ * 대량 등록은 JPA를 거치지 않고 JDBC 배치로 직접 저장한다.
+ * - 업로드 스트림을 한 행씩 읽어 처리 (파일 전체를 메모리에 올리지 않음)
+ * - CHUNK_SIZE 행마다 JDBC 배치 INSERT 후 커밋
+ *   (MySQL URL의 rewriteBatchedStatements=true 로 다중 행 INSERT 한 번으로 전송)
+ * - 잘못된 행은 건너뛰고 줄 번호와 사유를 결과에 기록
+ */
+@Slf4j
+@Service
+public class BookImportService {
+
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO book (title, price, author, page, description, member_id, createdAt, updatedAt, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookEventBus bookEvents;
+    private final BookCatalogVersion catalogVersion;
+    private final ObjectReader rowReader;
+
+    public BookImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             BookEventBus bookEvents,
+                             BookCatalogVersion catalogVersion,
+                             ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookEvents = bookEvents;
+        this.catalogVersion = catalogVersion;
+        this.rowReader = objectMapper.readerFor(BookImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * 업로드된 파일을 읽어 책을 대량 등록
+     *
+     * @param in     업로드 스트림 (UTF-8)
+     * @param format 파일 형식 (CSV는 첫 줄에 title,author,price,page,description 헤더 필요)
+     * @param owner  등록자 (현재 로그인한 관리자)
+     */
+    public BookImportResult importBooks(InputStream in, BookFileFormat format, Member owner) throws IOException {
+        long start = System.nanoTime();
+        ImportContext ctx = new ImportContext(owner);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == BookFileFormat.CSV) {
+            readCsv(reader, ctx);
+        } else {
+            readNdjson(reader, ctx);
+        }
+        ctx.flush();
+
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        long rowsPerSecond = ctx.imported * 1000 / elapsedMillis;
+        log.info("책 대량 등록 완료: {}행 중 {}행 저장, {}행 실패, {}ms ({} rows/s)",
+                ctx.total, ctx.imported, ctx.failed, elapsedMillis, rowsPerSecond);
+
+        return new BookImportResult(ctx.total, ctx.imported, ctx.failed,
+                elapsedMillis, rowsPerSecond, ctx.errors);
+    }
+
+    private void readCsv(BufferedReader reader, ImportContext ctx) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(), i);
+        }
+
+        while (true) {
+            List<String> record;
+            try {
+                record = csv.next();
+            } catch (IllegalArgumentException e) {
+                ctx.total++;
+                ctx.fail(csv.getRecordLine(), e.getMessage());
+                break;   // 따옴표가 닫히지 않으면 파일 끝까지 읽은 상태
+            }
+            if (record == null) {
+                break;
+            }
+            ctx.total++;
+            try {
+                BookImportRow row = new BookImportRow();
+                row.setTitle(column(record, columns, "title"));
+                row.setAuthor(column(record, columns, "author"));
+                row.setPrice(parseInt(column(record, columns, "price"), "price"));
+                row.setPage(parseInt(column(record, columns, "page"), "page"));
+                row.setDescription(column(record, columns, "description"));
+                ctx.add(row);
+            } catch (IllegalArgumentException e) {
+                ctx.fail(csv.getRecordLine(), e.getMessage());
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportContext ctx) throws IOException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ctx.total++;
+            try {
+                ctx.add(rowReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                ctx.fail(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                ctx.fail(lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    private String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer idx = columns.get(name);
+        if (idx == null || idx >= record.size()) {
+            return null;
+        }
+        String value = record.get(idx).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer parseInt(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * 행 검증 (Book 엔티티의 컬럼 제약과 동일)
+     */
+    private void validate(BookImportRow row) {
+        if (row.getTitle() == null || row.getTitle().isBlank()) {
+            throw new IllegalArgumentException("title은 필수입니다.");
+        }
+        if (row.getTitle().length() > 200) {
+            throw new IllegalArgumentException("title은 200자 이하여야 합니다.");
+        }
+        if (row.getAuthor() == null || row.getAuthor().isBlank()) {
+            throw new IllegalArgumentException("author는 필수입니다.");
+        }
+        if (row.getAuthor().length() > 100) {
+            throw new IllegalArgumentException("author는 100자 이하여야 합니다.");
+        }
+        if (row.getPrice() == null || row.getPrice() < 0) {
+            throw new IllegalArgumentException("price는 0 이상의 숫자여야 합니다.");
+        }
+        if (row.getPage() == null || row.getPage() < 0) {
+            throw new IllegalArgumentException("page는 0 이상의 숫자여야 합니다.");
+        }
+        if (row.getDescription() != null && row.getDescription().length() > 500) {
+            throw new IllegalArgumentException("description은 500자 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 한 번의 대량 등록 작업 상태 (청크 버퍼, 집계, 오류 목록)
+     */
+    private class ImportContext {
+        private final Member owner;
+        private final List<Book> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<BookImportResult.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        ImportContext(Member owner) {
+            this.owner = owner;
+        }
+
+        void add(BookImportRow row) {
+            validate(row);
+            Book book = new Book();
+            book.setTitle(row.getTitle());
+            book.setAuthor(row.getAuthor());
+            book.setPrice(row.getPrice());
+            book.setPage(row.getPage());
+            book.setDescription(row.getDescription());
+            book.setRegisteredBy(owner);
+            chunk.add(book);
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BookImportResult.RowError(line, message));
+            }
+        }
+
+        /**
+         * 버퍼에 쌓인 행을 JDBC 배치로 저장하고 커밋
+         */
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                insertChunk(chunk);
+                catalogVersion.changed();   // 목록/검색 API ETag 갱신 (같은 트랜잭션)
+            });
+            imported += chunk.size();
+            chunk.forEach(book -> bookEvents.publish(new BookCreated(book)));  // 커밋된 책만 색인에 추가
+            chunk.clear();
+        }
+    }
+
+    private void insertChunk(List<Book> books) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Book book : books) {
+                    ps.setString(1, book.getTitle());
+                    ps.setInt(2, book.getPrice());
+                    ps.setString(3, book.getAuthor());
+                    ps.setInt(4, book.getPage());
+                    ps.setString(5, book.getDescription());
+                    ps.setLong(6, book.getRegisteredBy().getId());
+                    ps.setTimestamp(7, timestamp);
+                    ps.setTimestamp(8, timestamp);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // 생성된 id를 엔티티에 채워 검색 색인 등에서 사용
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int i = 0;
+                    while (keys.next() && i < books.size()) {
+                        Book book = books.get(i++);
+                        book.setId(keys.getLong(1));
+                        book.setCreatedAt(now);
+                        book.setUpdatedAt(now);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
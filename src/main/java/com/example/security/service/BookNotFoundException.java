@@ -0,0 +1,17 @@
+package com.example.security.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청한 책이 없을 때 발생하는 예외
+ *
+ * REST API(BookApiController)는 404 ProblemDetail로, 화면 요청은 404 오류 페이지로 응답한다.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class BookNotFoundException extends RuntimeException {
+
+    public BookNotFoundException(Long id) {
+        super("책을 찾을 수 없습니다: " + id);
+    }
+}
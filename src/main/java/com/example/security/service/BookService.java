@@ -1,16 +1,47 @@
 package com.example.security.service;
 
+import com.example.security.config.CacheConfig;
+import com.example.security.counter.MemberBookCounter;
+import com.example.security.datasource.ReplicaRoutingDataSource;
+import com.example.security.dto.BookBrowseResult;
+import com.example.security.dto.BookCursor;
+import com.example.security.dto.BookPage;
+import com.example.security.dto.BookSummary;
+import com.example.security.dto.MemberInfo;
+import com.example.security.dto.Suggestion;
 import com.example.security.entity.Book;
-import com.example.security.entity.Member;
+import com.example.security.event.BookCreated;
+import com.example.security.event.BookDeleted;
+import com.example.security.event.BookEventBus;
+import com.example.security.event.BookUpdated;
 import com.example.security.repository.BookRepository;
+import com.example.security.search.BookFacetIndex;
+import com.example.security.search.BookSearchIndex;
+import com.example.security.search.BookSuggestIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 책 관련 비즈니스 로직을 처리하는 서비스
@@ -25,8 +56,20 @@ import java.util.Optional;
 @Transactional(readOnly = true)  // 기본적으로 읽기 전용 트랜잭션
 public class BookService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int MAX_AUTHOR_FACETS = 20;
+
     private final BookRepository bookRepository;
     private final MemberService memberService;
+    private final EntityManager entityManager;
+    private final BookSearchIndex searchIndex;
+    private final BookFacetIndex facetIndex;
+    private final BookSuggestIndex suggestIndex;
+    private final BookCatalogVersion catalogVersion;
+    private final MemberBookCounter memberBookCounter;
+    private final BookEventBus bookEvents;
 
     /**
      * 책 등록
@@ -36,57 +79,87 @@ public class BookService {
     public Book register(Book book) {
         // 현재 로그인한 사용자 정보 가져오기
         String username = getCurrentUsername();
-        Member currentMember = memberService.findByUsername(username);
+        MemberInfo currentMember = memberService.findByUsername(username);
 
-        // 책 등록자 설정
-        book.setRegisteredBy(currentMember);
+        // 책 등록자 설정 (FK로만 사용되므로 회원을 다시 조회하지 않음)
+        book.setRegisteredBy(currentMember.toReference());
 
-        return bookRepository.save(book);
+        Book saved = bookRepository.save(book);
+        bookEvents.publish(new BookCreated(saved));  // 색인, 등록 도서 수 갱신 (커밋 후, 비동기)
+        catalogVersion.changed();  // 목록/검색 API ETag 갱신 (같은 트랜잭션, 커밋되면 모든 서버에 보임)
+        return saved;
     }
 
     /**
      * 책 수정
-     * 본인이 등록한 책만 수정 가능하도록 체크
+     * 본인이 등록한 책만 수정 가능
+     *
+     * 조회 없이 "WHERE id = ? AND member_id = ? AND version = ?" 조건의 UPDATE 한 번으로 처리한다.
+     * 수정된 행이 없을 때만 원인을 조회하여 예외를 구분한다.
+     *
+     * @param updateBook 수정할 값 (version: 수정 폼을 열 때의 버전, 필수)
+     * @throws IllegalArgumentException version이 없을 때
+     * @throws BookNotFoundException 책이 없을 때
+     * @throws SecurityException 본인이 등록한 책이 아닐 때
+     * @throws ObjectOptimisticLockingFailureException 그 사이 다른 곳에서 먼저 수정했을 때
      */
     @Transactional
-    public Book update(Long id, Book updateBook) {
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("책을 찾을 수 없습니다: " + id));
-
-        // 권한 체크: 본인이 등록한 책인지 확인
-        String currentUsername = getCurrentUsername();
-        if (!book.getRegisteredBy().getUsername().equals(currentUsername)) {
-            throw new SecurityException("본인이 등록한 책만 수정할 수 있습니다.");
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#id")  // 벌크 UPDATE는 EntityCacheListener를 거치지 않음
+    public void update(Long id, Book updateBook) {
+        if (updateBook.getVersion() == null) {
+            // 버전 없이 수정하면 그 사이 다른 사람이 수정한 내용을 모르고 덮어쓰게 됨
+            throw new IllegalArgumentException("수정할 책의 버전이 필요합니다. 다시 조회한 뒤 수정해주세요.");
         }
+        Long memberId = getCurrentMember().getId();
 
-        // 수정 가능한 필드만 업데이트
-        book.setTitle(updateBook.getTitle());
-        book.setPrice(updateBook.getPrice());
-        book.setAuthor(updateBook.getAuthor());
-        book.setPage(updateBook.getPage());
-        book.setDescription(updateBook.getDescription());
+        int updated = bookRepository.updateOwned(id, memberId, updateBook.getVersion(),
+                updateBook.getTitle(), updateBook.getPrice(), updateBook.getAuthor(),
+                updateBook.getPage(), updateBook.getDescription(), LocalDateTime.now());
+        if (updated == 0) {
+            BookRepository.Ownership ownership = bookRepository.findOwnership(id)
+                    .orElseThrow(() -> new BookNotFoundException(id));
+            if (!memberId.equals(ownership.getMemberId())) {
+                throw new SecurityException("본인이 등록한 책만 수정할 수 있습니다.");
+            }
+            throw new ObjectOptimisticLockingFailureException(Book.class, id);
+        }
 
-        return bookRepository.save(book);
+        updateBook.setId(id);
+        bookEvents.publish(new BookUpdated(updateBook));
+        catalogVersion.changed();
     }
 
     /**
      * 책 삭제
      * 본인이 등록한 책 또는 ADMIN 권한자만 삭제 가능
+     *
+     * - 일반 회원: "WHERE id = ? AND member_id = 본인" DELETE 한 번 (0건일 때만 원인 조회)
+     * - 관리자: 도서 수를 줄일 등록자를 조회한 뒤 "WHERE id = ? AND member_id = 그 등록자" DELETE
+     *   (조회와 삭제 사이에 등록자가 바뀌거나 삭제되면 0건 → 없는 책으로 처리)
+     * 어느 경우든 DB 왕복은 최대 2번이다.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#id")  // 벌크 DELETE는 EntityCacheListener를 거치지 않음
     public void delete(Long id) {
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("책을 찾을 수 없습니다: " + id));
-
-        String currentUsername = getCurrentUsername();
-        boolean isAdmin = hasAdminRole();
-
-        // 권한 체크: 본인이 등록했거나 관리자인 경우만 삭제 가능
-        if (!book.getRegisteredBy().getUsername().equals(currentUsername) && !isAdmin) {
-            throw new SecurityException("삭제 권한이 없습니다.");
+        Long ownerId;
+        if (hasAdminRole()) {
+            ownerId = bookRepository.findOwnership(id)
+                    .map(BookRepository.Ownership::getMemberId)
+                    .orElseThrow(() -> new BookNotFoundException(id));
+            if (bookRepository.deleteOwned(id, ownerId) == 0) {
+                throw new BookNotFoundException(id);
+            }
+        } else {
+            ownerId = getCurrentMember().getId();
+            if (bookRepository.deleteOwned(id, ownerId) == 0) {
+                if (bookRepository.findOwnership(id).isEmpty()) {
+                    throw new BookNotFoundException(id);
+                }
+                throw new SecurityException("삭제 권한이 없습니다.");
+            }
         }
-
-        bookRepository.delete(book);
+        bookEvents.publish(new BookDeleted(id, ownerId));
+        catalogVersion.changed();
     }
 
     /**
@@ -96,28 +169,192 @@ public class BookService {
         return bookRepository.findAllWithMember();
     }
 
+    /**
+     * 모든 책을 스트리밍으로 처리 (최신순)
+     *
+     * findAll()과 달리 List를 만들지 않는다.
+     * - 읽기 전용 트랜잭션 안에서 DB 커서를 열고, consumer가 한 건씩 소비한다.
+     * - 소비가 끝난 책은 영속성 컨텍스트에서 분리(detach)하여 힙 사용량이 늘어나지 않게 한다.
+     * - consumer가 반환되면 스트림(커서)과 트랜잭션이 닫힌다.
+     *   따라서 Iterable은 consumer 밖으로 가져가면 안 된다.
+     *
+     * @param consumer 책 목록을 한 번만 순회하는 소비자 (예: 템플릿 렌더링)
+     */
+    public void streamAll(Consumer<Iterable<Book>> consumer) {
+        try (Stream<Book> stream = bookRepository.streamAllWithMember()) {
+            Iterator<Book> rows = stream.iterator();
+            consumer.accept(() -> new DetachingIterator(rows));
+        }
+    }
+
+    /**
+     * 다음 책을 꺼낼 때 이전에 꺼낸 책을 영속성 컨텍스트에서 분리하는 Iterator
+     * (등록자 Member는 여러 책이 공유하므로 분리하지 않는다)
+     */
+    private class DetachingIterator implements Iterator<Book> {
+        private final Iterator<Book> delegate;
+        private Book previous;
+
+        DetachingIterator(Iterator<Book> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Book next() {
+            if (previous != null) {
+                entityManager.detach(previous);
+            }
+            previous = delegate.next();
+            return previous;
+        }
+    }
+
+    /**
+     * 책 목록 페이지 조회 (최신순, 키셋 페이지네이션)
+     *
+     * after/before 커서 중 하나만 사용한다. 둘 다 없으면 첫 페이지.
+     * 다음 페이지 존재 여부는 size + 1 건을 읽어서 판단한다. (COUNT 쿼리 없음)
+     * 화면 표시용 컬럼만 조회한다. (BookSummary)
+     *
+     * @param after  이 커서보다 오래된 책을 조회 (다음 페이지)
+     * @param before 이 커서보다 최신인 책을 조회 (이전 페이지)
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public BookPage<BookSummary> findPage(BookCursor after, BookCursor before, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<BookSummary> rows;
+        boolean hasNext;
+        boolean hasPrevious;
+
+        if (before != null) {
+            rows = new ArrayList<>(bookRepository.findPageBeforeSummaries(
+                    before.getCreatedAt(), before.getId(), limit));
+            hasPrevious = rows.size() > pageSize;
+            hasNext = true;   // before 커서의 책이 뒤에 남아있음
+            if (hasPrevious) {
+                rows = rows.subList(0, pageSize);
+            }
+            Collections.reverse(rows);  // ASC로 읽었으므로 화면 순서(DESC)로 뒤집기
+        } else {
+            rows = after != null
+                    ? bookRepository.findPageAfterSummaries(after.getCreatedAt(), after.getId(), limit)
+                    : bookRepository.findFirstPageSummaries(limit);
+            hasNext = rows.size() > pageSize;
+            hasPrevious = after != null;
+            if (hasNext) {
+                rows = rows.subList(0, pageSize);
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return new BookPage<>(rows, null, null, false, false);
+        }
+        return new BookPage<>(rows, toCursor(rows.get(0)), toCursor(rows.get(rows.size() - 1)),
+                hasNext, hasPrevious);
+    }
+
     /**
      * ID로 책 조회
+     * 2차 캐시(books)에 있으면 DB를 조회하지 않는다. (수정/삭제 시 EntityCacheListener가 무효화)
+     * 캐시된 책은 준영속 상태이므로 수정에는 사용하지 않는다.
+     * 캐시를 채우는 조회이므로 읽기/쓰기 분리 시에도 주 DB에서 읽는다. (수정 직후 복제본의 이전 버전이 캐시에 남지 않도록)
      */
+    @Cacheable(cacheNames = CacheConfig.BOOKS, key = "#id")
     public Book findById(Long id) {
-        return bookRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("책을 찾을 수 없습니다: " + id));
+        return ReplicaRoutingDataSource.readFromPrimary(() -> bookRepository.findByIdWithMember(id))
+                .orElseThrow(() -> new BookNotFoundException(id));
     }
 
     /**
      * 제목으로 책 검색
+     * LIKE 검색 대신 메모리 역색인에서 제목 필드만 검색
+     */
+    public List<BookSummary> searchByTitle(String title) {
+        return findRanked(searchIndex.search(title, BookSearchIndex.FIELD_TITLE, MAX_SEARCH_RESULTS));
+    }
+
+    /**
+     * 제목, 저자, 설명 전체에서 책 검색 (관련도순)
+     */
+    public List<BookSummary> search(String keyword) {
+        return findRanked(searchIndex.search(keyword, BookSearchIndex.ALL_FIELDS, MAX_SEARCH_RESULTS));
+    }
+
+    /**
+     * 패싯 탐색 (가격대, 페이지 수 구간, 저자)
+     *
+     * 조건 계산과 패싯별 개수는 메모리 패싯 색인에서 처리하고,
+     * DB에는 현재 페이지의 책만 IN 쿼리 한 번으로 조회한다.
+     *
+     * @param after 이 id보다 오래된 책부터 (다음 페이지)
+     */
+    public BookBrowseResult browse(Set<Integer> prices, Set<Integer> pages, Set<String> authors,
+                                   Long after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        BookFacetIndex.Result result = facetIndex.browse(prices, pages, authors, after, pageSize, MAX_AUTHOR_FACETS);
+        List<Long> ids = result.getIds();
+        Long nextCursor = result.isHasNext() && !ids.isEmpty() ? ids.get(ids.size() - 1) : null;
+        return new BookBrowseResult(findRanked(ids), result.getTotal(), nextCursor,
+                result.getPrices(), result.getPages(), result.getAuthors());
+    }
+
+    /**
+     * 검색어 자동완성 (제목/저자, 책 수 많은 순)
+     * 메모리 트라이에서만 조회하므로 DB 접근이 없다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, Math.max(1, Math.min(limit, BookSuggestIndex.TOP_K)));
+    }
+
+    /**
+     * 색인이 반환한 id 순서(관련도순)대로 책을 조회
+     * IN 쿼리 한 번으로 조회한 뒤 메모리에서 순서를 맞춘다.
      */
-    public List<Book> searchByTitle(String title) {
-        return bookRepository.findByTitleContainingIgnoreCase(title);
+    private List<BookSummary> findRanked(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BookSummary> byId = bookRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookSummary::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)   // 색인 갱신 직전에 삭제된 책은 제외
+                .collect(Collectors.toList());
     }
 
     /**
-     * 현재 로그인한 사용자가 등록한 책 목록
+     * 현재 로그인한 사용자가 등록한 책 목록 (최신순)
      */
-    public List<Book> findMyBooks() {
+    public List<BookSummary> findMyBooks() {
         String username = getCurrentUsername();
-        Member currentMember = memberService.findByUsername(username);
-        return bookRepository.findByRegisteredBy(currentMember);
+        MemberInfo currentMember = memberService.findByUsername(username);  // 캐시된 회원의 id만 사용
+        return bookRepository.findSummariesByMemberId(currentMember.getId());
+    }
+
+    /**
+     * 현재 로그인한 사용자가 등록한 책 수
+     * COUNT 쿼리 대신 메모리 카운터(MemberBookCounter)에서 읽는다.
+     */
+    public long countMyBooks() {
+        return memberBookCounter.getCount(getCurrentMember().getId());
+    }
+
+    private BookCursor toCursor(BookSummary book) {
+        return new BookCursor(book.getCreatedAt(), book.getId());
+    }
+
+    /**
+     * 현재 로그인한 회원 (회원 캐시를 사용하므로 보통 DB 조회 없음)
+     */
+    private MemberInfo getCurrentMember() {
+        return memberService.findByUsername(getCurrentUsername());
     }
 
     /**
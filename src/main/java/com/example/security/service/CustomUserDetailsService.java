@@ -1,40 +1,61 @@
 package com.example.security.service;
 
+import com.example.security.datasource.ReplicaRoutingDataSource;
 import com.example.security.entity.CustomerMember;
 import com.example.security.entity.Member;
+import com.example.security.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final MemberService memberService;
+    private final MemberRepository memberRepository;
+    private final UserCache userCache;   // userKey(username) → CustomerMember (CacheConfig.USERS)
+
     /**
      * Spring Security가 사용자 인증 시 자동으로 호출하는 메서드
      *
+     * 캐시에 있으면 DB(member, member_roles)를 조회하지 않는다.
+     * 회원이 수정되면 커밋 후 EntityCacheListener가, 권한이 바뀌면 MemberService.changeRoles가 캐시를 비운다.
+     * 비밀번호 해시가 필요하므로 회원 캐시(MemberInfo)가 아니라 DB에서 직접 읽는다.
+     *
      * @param username 로그인 폼에서 입력한 사용자명
      * @return UserDetails Spring Security가 인증에 사용할 사용자 정보 객체
      * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        System.out.println("=== 로그인 시도 ===");
-        System.out.println("Username: " + username);
+        log.debug("로그인 시도: {}", username);
+
+        UserDetails cached = userCache.getUserFromCache(username);
+        if (cached instanceof CustomerMember customerMember) {
+            log.debug("사용자 캐시 적중: {}", username);
+            // 인증이 끝나면 Spring Security가 반환된 객체의 비밀번호를 지운다. (eraseCredentials)
+            // 캐시된 객체가 지워지지 않도록 매번 새 객체를 만들어 반환
+            return customerMember.copy();
+        }
 
         try {
-            Member member = memberService.findByUsername(username);
-            System.out.println("사용자 찾음: " + member.getName());
-            System.out.println("CustomUserDetailsService:" + member.getUsername());
+            // 캐시를 채우는 조회이므로 읽기/쓰기 분리 시에도 주 DB에서 읽음 (권한/비밀번호 변경 직후 이전 값 방지)
+            Member member = ReplicaRoutingDataSource.readFromPrimary(() -> memberRepository.findByUsername(username))
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+            log.debug("사용자 찾음: {}", member.getUsername());
 
             // 2. JPA 엔티티를 Spring Security용 객체로 변환
-            // CustomerMember는 UserDetails를 구현하면서 Member 정보도 포함
-            return new CustomerMember(member);   // Authentication->View  // 이 객체가 Authentication에 저장됨
-        } catch (Exception e) {
-            System.out.println("사용자 못 찾음: " + e.getMessage());
+            // CustomerMember는 UserDetails를 구현하면서 회원 id, 이름도 포함 (Member 엔티티는 담지 않음)
+            CustomerMember customerMember = new CustomerMember(member);
+            userCache.putUserInCache(customerMember);
+            return customerMember.copy();   // Authentication->View  // 이 객체가 Authentication(세션)에 저장됨
+        } catch (UsernameNotFoundException e) {
+            log.debug("사용자 못 찾음: {}", e.getMessage());
             throw e;
         }
     }
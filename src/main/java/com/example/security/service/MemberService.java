@@ -1,24 +1,40 @@
 package com.example.security.service;
 
+import com.example.security.config.CacheConfig;
+import com.example.security.counter.MemberBookCounter;
+import com.example.security.datasource.ReplicaRoutingDataSource;
+import com.example.security.dto.Contributor;
+import com.example.security.dto.MemberInfo;
 import com.example.security.entity.Member;
 import com.example.security.entity.Role;
 import com.example.security.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
     private final MemberRepository memberRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private  final RoleService roleService;
+    private final MemberBookCounter memberBookCounter;
+    private final PlatformTransactionManager transactionManager;
 
     public Member register(Member member){
         // 1. 사용자가 입력한 패스워드를 암호화
@@ -59,7 +75,7 @@ public class MemberService {
      * 주로 로그인 시 CustomUserDetailsService에서 호출
      *
      * @param username 조회할 회원의 username (로그인 ID)
-     * @return 조회된 Member 엔티티
+     * @return 조회된 회원 정보 (캐시에 공유되므로 변경할 수 없는 MemberInfo)
      * @throws UsernameNotFoundException 회원을 찾을 수 없을 때
      */
     // ============================================================
@@ -69,12 +85,93 @@ public class MemberService {
     // JPA Repository 메서드 호출
     // findByUsername()은 Spring Data JPA가 자동 생성하는 쿼리 메서드
     // 실행되는 SQL: SELECT * FROM member WHERE username = ?
-    public Member findByUsername(String username){
-        Optional<Member> optional =memberRepository.findByUsername(username);
+    // 2차 캐시(members)에 있으면 DB를 조회하지 않는다. (회원 수정/삭제가 커밋되면 EntityCacheListener가 무효화)
+    // 키는 CacheConfig.userKey (무효화와 같은 키), 없는 회원은 예외가 발생하므로 캐시되지 않는다.
+    @Cacheable(cacheNames = CacheConfig.MEMBERS,
+            key = "T(com.example.security.config.CacheConfig).userKey(#username)")
+    public MemberInfo findByUsername(String username){
+        // 캐시를 채우는 조회이므로 읽기/쓰기 분리 시에도 주 DB에서 읽음
+        Optional<Member> optional =ReplicaRoutingDataSource.readFromPrimary(() -> memberRepository.findByUsername(username));
         if(!optional.isPresent()){
             throw new UsernameNotFoundException("User not found with username: " + username);
         }
-        return optional.get();  // Optional에서 실제 Member 객체 추출하여 반환
+        return MemberInfo.from(optional.get());  // 엔티티 대신 변경할 수 없는 값만 캐시
+    }
+
+    /**
+     * 책을 많이 등록한 회원 순위
+     * 순위는 메모리 순위표(MemberBookCounter)에서 가져오고, 이름은 상위 회원만 id로 한 번에 조회한다.
+     *
+     * @param limit 최대 인원 (MemberBookCounter.LEADERBOARD_SIZE 이하)
+     */
+    public List<Contributor> findTopContributors(int limit) {
+        Map<Long, Long> top = memberBookCounter.top(Math.max(1, Math.min(limit, MemberBookCounter.LEADERBOARD_SIZE)));
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Member> members = memberRepository.findAllById(top.keySet()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        List<Contributor> result = new ArrayList<>(top.size());
+        top.forEach((memberId, count) -> {
+            Member member = members.get(memberId);
+            if (member != null) {   // 순위표 갱신 전에 탈퇴한 회원은 제외
+                result.add(new Contributor(memberId, member.getUsername(), member.getName(), count));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 비밀번호 변경 (관리자 API: MemberAdminController)
+     *
+     * 로그인 캐시(users)와 회원 캐시(members)를 비워 다음 인증부터 새 비밀번호로 확인한다.
+     * 트랜잭션은 메서드 안에서 끝나므로 @CacheEvict는 항상 커밋 뒤에 실행된다.
+     * (커밋 전에 비우면 그 사이 로그인이 이전 값을 다시 캐시에 넣을 수 있음)
+     */
+    @CacheEvict(cacheNames = {CacheConfig.MEMBERS, CacheConfig.USERS},
+            key = "T(com.example.security.config.CacheConfig).userKey(#username)")
+    public void changePassword(String username, String rawPassword){
+        String encoded = passwordEncoder.encode(rawPassword);   // BCrypt는 트랜잭션 밖에서 (DB 커넥션을 잡지 않고)
+        transactionTemplate().executeWithoutResult(status ->
+                findMember(username).setPassword(encoded));     // 변경 감지(dirty checking)로 UPDATE
+    }
+
+    /**
+     * 권한 변경 (관리자 API: MemberAdminController)
+     *
+     * 권한(member_roles)만 바뀌면 member 행은 UPDATE되지 않으므로 @PreUpdate(EntityCacheListener)가 호출되지 않는다.
+     * 그래서 여기서 직접 캐시를 비운다. 비우지 않으면 이전 권한이 캐시 만료 때까지 로그인/HTTP Basic 인증에 쓰인다.
+     * (이미 로그인한 세션의 권한은 바뀌지 않으며 다시 로그인해야 반영됨)
+     *
+     * @param roleNames 새 권한명 목록 (예: USER, ADMIN)
+     * @throws IllegalArgumentException 없는 권한명이거나 비어 있을 때
+     */
+    @CacheEvict(cacheNames = {CacheConfig.MEMBERS, CacheConfig.USERS},
+            key = "T(com.example.security.config.CacheConfig).userKey(#username)")
+    public void changeRoles(String username, Set<String> roleNames){
+        if (roleNames == null || roleNames.isEmpty()) {
+            throw new IllegalArgumentException("권한을 하나 이상 지정해야 합니다.");
+        }
+        transactionTemplate().executeWithoutResult(status -> {
+            Set<Role> roles = new HashSet<>();
+            for (String roleName : roleNames) {
+                Role role = roleService.findByName(roleName);
+                if (role == null) {
+                    throw new IllegalArgumentException("존재하지 않는 권한입니다: " + roleName);
+                }
+                roles.add(role);
+            }
+            findMember(username).setRoles(roles);
+        });
+    }
+
+    private Member findMember(String username) {
+        return memberRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
     }
 }
 
@@ -94,6 +191,10 @@ public class MemberService {
  *    - CustomUserDetailsService와 연동
  *    - 예외 처리 표준화
  *
+ * 3. 비밀번호/권한 변경 (changePassword, changeRoles)
+ *    - 관리자 API에서 호출
+ *    - 커밋 뒤 members/users 캐시 제거
+ *
  * ============================================================
  * 🔄 호출 흐름:
  * ============================================================
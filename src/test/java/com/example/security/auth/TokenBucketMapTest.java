@@ -0,0 +1,77 @@
+package com.example.security.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷 테스트 (시계를 직접 움직여 확인)
+ */
+class TokenBucketMapTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void allowsBurstThenRefillsOneTokenPerPeriod() {
+        TokenBucketMap buckets = new TokenBucketMap(3, Duration.ofSeconds(10), 1000, clock::get);
+
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+        assertThat(buckets.tryAcquire("admin")).isZero();   // 키마다 따로 제한
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertThat(buckets.tryAcquire("user")).isEqualTo(TimeUnit.SECONDS.toNanos(6));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isPositive();
+
+        // 오래 쉬어도 capacity개까지만 쌓인다
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isPositive();
+    }
+
+    @Test
+    void releasedTokenCanBeAcquiredAgain() {
+        TokenBucketMap buckets = new TokenBucketMap(2, Duration.ofSeconds(10), 1000, clock::get);
+
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isPositive();
+
+        buckets.release("user");
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isPositive();
+
+        // 돌려줘도 capacity개보다 많이 쌓이지 않는다
+        buckets.release("user");
+        buckets.release("user");
+        buckets.release("user");
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isZero();
+        assertThat(buckets.tryAcquire("user")).isPositive();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBucketsWhenFull() {
+        TokenBucketMap buckets = new TokenBucketMap(1, Duration.ofMinutes(1), 16 * 8, clock::get);
+        for (int i = 0; i < 2000; i++) {
+            clock.incrementAndGet();
+            buckets.tryAcquire("key" + i);
+        }
+        assertThat(buckets.size()).isLessThanOrEqualTo(16 * 8);
+        assertThat(buckets.evictedCount()).isPositive();
+
+        // 방금 제한된 키는 최근에 쓴 것이라 남아 있다
+        assertThat(buckets.tryAcquire("key1999")).isPositive();
+    }
+}
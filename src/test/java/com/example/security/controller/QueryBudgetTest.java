@@ -0,0 +1,119 @@
+package com.example.security.controller;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 화면별 SQL 수(Query Budget) 테스트
+ *
+ * 내장 DB(H2)로 애플리케이션 전체를 띄우고 요청마다 실행된 SQL 수를 확인한다.
+ * - 값은 RequestMetricsFilter가 기록하는 http.server.requests.statements 지표에서 읽음
+ * - N+1 감지는 fail 모드로 켜 두므로, 같은 형태의 SQL이 반복되면 요청 자체가 실패함
+ * 예산은 정확한 값이다. 늘어나도 줄어들어도 실패하므로, 캐시/조인 변경 등으로 실행 계획이 조용히 바뀌면 드러난다.
+ * (쿼리를 의도적으로 줄였다면 예산도 함께 내린다)
+ * 지표가 기록되지 않았으면(측정 실패) 실패로 본다.
+ * 캐시는 매번 비워서 캐시가 비어 있을 때(최악의 경우)를 측정한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.metrics.n-plus-one.threshold=3",
+        "app.metrics.n-plus-one.mode=fail"
+})
+@WithUserDetails("user")   // DataInitializer가 만든 테스트 계정
+class QueryBudgetTest {
+
+    private static final String STATEMENTS = "http.server.requests.statements";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames()
+                .forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+
+    @Test
+    void bookList() throws Exception {
+        // 목록 프로젝션 1 (등록자는 이름만 조인, roles 로딩 없음)
+        assertStatements("/ui/list", "/ui/list", 1);
+    }
+
+    @Test
+    void myBooks() throws Exception {
+        // 회원 조회 1, 역할 1 (캐시가 비어 있을 때), 내 책 프로젝션 1
+        assertStatements("/book/mybooks", "/book/mybooks", 3);
+    }
+
+    @Test
+    void search() throws Exception {
+        // 검색은 메모리 색인 → 결과 id IN 프로젝션 1 (샘플 책 "자바의 정석")
+        assertStatements("/book/search?title=자바", "/book/search", 1);
+    }
+
+    @Test
+    void browse() throws Exception {
+        // 조건/개수는 메모리 패싯 색인 → 현재 페이지 책 IN 프로젝션 1
+        // (2만~3만원, 400~700쪽: 샘플 책 "스프링 부트와 AWS로..."가 걸리도록)
+        assertStatements("/book/browse?price=2&page=2", "/book/browse", 1);
+    }
+
+    /**
+     * 요청 한 번에 실행된 SQL 수가 예산과 정확히 같은지 확인
+     *
+     * @param url    요청 URL
+     * @param uri    지표의 uri 태그 (컨트롤러 매핑 패턴)
+     * @param budget 실행되어야 하는 SQL 수
+     */
+    private void assertStatements(String url, String uri, int budget) throws Exception {
+        DistributionSummary summary = statementsSummary(uri);
+        double beforeTotal = summary == null ? 0 : summary.totalAmount();
+        long beforeCount = summary == null ? 0 : summary.count();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+
+        summary = statementsSummary(uri);
+        assertThat(summary)
+                .as("%s 요청의 %s 지표 (uri=%s)", url, STATEMENTS, uri)
+                .isNotNull();
+        assertThat(summary.count() - beforeCount)
+                .as("%s 요청이 지표에 기록된 횟수", url)
+                .isEqualTo(1);
+        assertThat(summary.totalAmount() - beforeTotal)
+                .as("%s 요청의 SQL 수", url)
+                .isEqualTo((double) budget);
+    }
+
+    private DistributionSummary statementsSummary(String uri) {
+        return meterRegistry.find(STATEMENTS)
+                .tags("uri", uri, "method", "GET")
+                .summary();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.security.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DataSource 분리 테스트
+ *
+ * 내장 DB(H2) 두 개를 주 DB와 복제본으로 사용한다.
+ * 두 DB의 where_am_i 테이블에 서로 다른 값을 넣어 두고, 조회 결과로 어느 DB에서 실행됐는지 확인한다.
+ * (DataSourceRoutingConfig와 같은 방식으로 LazyConnectionDataSourceProxy를 구성)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = h2("primary");
+    private final DataSource replica = h2("replica");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, List.of(replica), tracker));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readTx.execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertThat(writeTx.execute(status -> whereAmI())).isEqualTo("primary");
+    }
+
+    @Test
+    void readAfterOwnWriteUsesPrimary() {
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE where_am_i SET name = name"));
+
+        assertThat(readTx.execute(status -> whereAmI())).isEqualTo("primary");
+    }
+
+    @Test
+    void otherMembersStillReadFromReplica() {
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE where_am_i SET name = name"));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        assertThat(readTx.execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void readFromPrimaryOverridesReadOnlyRouting() {
+        assertThat(readTx.execute(status -> ReplicaRoutingDataSource.readFromPrimary(this::whereAmI)))
+                .isEqualTo("primary");
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(() -> readTx.execute(status -> whereAmI())))
+                .isEqualTo("primary");
+
+        // 최근 쓰기 회원으로 기록되지 않으므로 다음 읽기는 다시 복제본
+        assertThat(readTx.execute(status -> whereAmI())).isEqualTo("replica");
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM where_am_i", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS where_am_i (name VARCHAR(20))");
+        jdbc.execute("DELETE FROM where_am_i");
+        jdbc.update("INSERT INTO where_am_i (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.security.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 책 이벤트 파이프라인 테스트
+ *
+ * 버퍼를 작게(16칸) 잡아 여러 스레드가 동시에 발행할 때 한 바퀴 돌아 대기하는 경로까지 거치게 한다.
+ */
+class BookEventBusTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 10_000;
+
+    private final RecordingListener fast = new RecordingListener();
+    private final RecordingListener failing = new RecordingListener() {
+        @Override
+        public void onEvents(List<BookEvent> events) {
+            super.onEvents(events);
+            throw new IllegalStateException("리스너 오류는 다음 이벤트 전달을 막지 않아야 함");
+        }
+    };
+    private final RecordingListener erroring = new RecordingListener() {
+        @Override
+        public void onEvents(List<BookEvent> events) {
+            super.onEvents(events);
+            throw new AssertionError("Error도 소비 스레드를 멈추지 않아야 함");
+        }
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BookEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null && bus.isRunning()) {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void everyListenerReceivesEveryEventInPublishOrder() throws InterruptedException {
+        bus = new BookEventBus(List.of(fast, failing, erroring), meterRegistry, 16, "sleeping",
+                Duration.ofSeconds(10), Duration.ofSeconds(10));
+        bus.start();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            long base = (long) p * EVENTS_PER_PRODUCER;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                    bus.publish(new BookDeleted(base + i, null));
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        bus.stop();   // 남은 이벤트를 모두 처리한 뒤 멈춤
+
+        for (RecordingListener listener : List.of(fast, failing, erroring)) {
+            assertThat(listener.ids).hasSize(PRODUCERS * EVENTS_PER_PRODUCER);
+            // 같은 스레드가 발행한 이벤트는 발행 순서대로 도착
+            for (int p = 0; p < PRODUCERS; p++) {
+                long base = (long) p * EVENTS_PER_PRODUCER;
+                List<Long> fromProducer = listener.ids.stream()
+                        .filter(id -> id >= base && id < base + EVENTS_PER_PRODUCER)
+                        .toList();
+                assertThat(fromProducer).isSorted().hasSize(EVENTS_PER_PRODUCER);
+            }
+        }
+        assertThat(meterRegistry.get("book.events.published").counter().count())
+                .isEqualTo(PRODUCERS * EVENTS_PER_PRODUCER);
+        assertThat(meterRegistry.get("book.events.lag").tag("listener", "BookEventBusTest.RecordingListener").gauge().value())
+                .isZero();
+        assertThat(bus.appliedSequence()).isEqualTo(PRODUCERS * EVENTS_PER_PRODUCER - 1);
+    }
+
+    @Test
+    void dropsEventsInsteadOfBlockingWhenListenerIsStuck() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener stuck = new RecordingListener() {
+            @Override
+            public void onEvents(List<BookEvent> events) {
+                super.onEvents(events);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        bus = new BookEventBus(List.of(stuck), meterRegistry, 16, "sleeping",
+                Duration.ofMillis(20), Duration.ofSeconds(10));
+        bus.start();
+
+        // 첫 이벤트를 받은 채 멈춘 리스너 → 버퍼 16칸이 차면 이후 발행은 기다리다 버려짐
+        for (int i = 0; i < 20; i++) {
+            bus.publish(new BookDeleted((long) i, null));
+        }
+        release.countDown();
+        bus.stop();
+
+        assertThat(meterRegistry.get("book.events.published").counter().count()).isEqualTo(16);
+        assertThat(meterRegistry.get("book.events.dropped").counter().count()).isEqualTo(4);
+        assertThat(stuck.ids).containsExactlyElementsOf(LongStream.range(0, 16).boxed().toList());
+    }
+
+    private static class RecordingListener implements BookEventListener {
+        final List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onEvents(List<BookEvent> events) {
+            events.forEach(event -> ids.add(event.getBookId()));
+        }
+    }
+}
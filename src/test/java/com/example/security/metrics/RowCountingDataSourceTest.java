@@ -0,0 +1,51 @@
+package com.example.security.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청별 읽은 행 수 집계 테스트 (내장 DB H2, JdbcTemplate으로 조회)
+ */
+class RowCountingDataSourceTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new RowCountingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:row-counting;DB_CLOSE_DELAY=-1", "sa", "")));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS numbers (n INT)");
+        jdbcTemplate.execute("DELETE FROM numbers");
+        for (int i = 1; i <= 5; i++) {
+            jdbcTemplate.update("INSERT INTO numbers (n) VALUES (?)", i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestStats.end();
+    }
+
+    @Test
+    void countsRowsReadDuringRequest() {
+        RequestStats stats = RequestStats.begin("/test");
+
+        jdbcTemplate.queryForList("SELECT n FROM numbers WHERE n <= 3", Integer.class);
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM numbers", Integer.class);
+        jdbcTemplate.queryForList("SELECT n FROM numbers WHERE n > 100", Integer.class);   // 0행
+
+        assertThat(stats.getRowsFetched()).isEqualTo(3 + 1);
+    }
+
+    @Test
+    void ignoresQueriesOutsideRequest() {
+        jdbcTemplate.queryForList("SELECT n FROM numbers", Integer.class);
+
+        RequestStats stats = RequestStats.begin("/test");
+        assertThat(stats.getRowsFetched()).isZero();
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.security.repository;
+
+import com.example.security.config.CacheConfig;
+import com.example.security.entity.Book;
+import com.example.security.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookRepository 쿼리 실행 계획 테스트
+ *
+ * 각 쿼리가 실제로 만드는 SQL과 바인딩된 값을 가로채(SqlCapture) 내장 DB(H2)에서 EXPLAIN을 실행하고,
+ * book 테이블을 전체 스캔(tableScan)하면 실패한다.
+ * 새 쿼리를 추가했는데 인덱스가 없으면 여기서 바로 드러난다.
+ * 값은 리포지토리 메서드에 넘긴 그대로 다시 바인딩하므로 테스트에 ?의 순서를 적지 않는다.
+ *
+ * 모든 행을 읽는 쿼리는 정렬을 인덱스로 하는지(정렬 단계 없음), 불필요한 조인이 없는지,
+ * 등록자를 페치 조인하면 member를 기본 키로 조인하는지를 확인한다.
+ * BookRepository의 쿼리와 상속한 findById는 모두 여기서 확인하며, 제외하는 것은 다음뿐이다.
+ * - LIKE '%x%' 검색(findByTitleContainingIgnoreCase, findByAuthorContaining): 전체 스캔이 의도된 것 (검색은 BookSearchIndex를 사용)
+ * - 그 밖의 상속 메서드(findAll, count 등): 애플리케이션에서 요청 경로로 쓰지 않음 (DataInitializer의 count 1회 제외)
+ */
+@DataJpaTest
+@Import({CacheConfig.class, SqlCapture.class})   // EntityCacheListener가 CacheManager를 주입받음
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class BookRepositoryQueryPlanTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // SELECT ... FROM book, UPDATE book, DELETE FROM book
+    private static final Pattern BOOK_STATEMENT =
+            Pattern.compile("\\b(from|update)\\s+book\\b", Pattern.CASE_INSENSITIVE);
+
+    private Member member;
+    private final LocalDateTime cursor = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        member = new Member();
+        member.setUsername("planner");
+        member.setPassword("x");
+        member.setName("플래너");
+        member.setRoles(new HashSet<>());
+        memberRepository.save(member);
+
+        // 옵티마이저가 인덱스를 고를 수 있을 정도의 데이터
+        for (int i = 0; i < 200; i++) {
+            Book book = new Book();
+            book.setTitle("책 " + i);
+            book.setAuthor("저자 " + (i % 20));
+            book.setPrice(10000 + i * 100);
+            book.setPage(100 + i);
+            book.setRegisteredBy(member);
+            bookRepository.save(book);
+        }
+        bookRepository.flush();
+        jdbcTemplate.execute("ANALYZE");
+        SqlCapture.clear();
+    }
+
+    @Test
+    void findByIdWithMember() {
+        bookRepository.findByIdWithMember(1L);
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findByRegisteredBy() {
+        bookRepository.findByRegisteredBy(member);
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findBooksByMemberId() {
+        bookRepository.findBooksByMemberId(member.getId());
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void countByMemberId() {
+        bookRepository.countByMemberId(member.getId());
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findByPriceBetween() {
+        bookRepository.findByPriceBetween(10000, 11000);
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findFirstPageSummaries() {
+        bookRepository.findFirstPageSummaries(PageRequest.of(0, 21));
+        assertThat(assertNoBookTableScan()).containsIgnoringCase("index sorted");
+    }
+
+    @Test
+    void findPageAfterSummaries() {
+        bookRepository.findPageAfterSummaries(cursor, 100L, PageRequest.of(0, 21));
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findPageBeforeSummaries() {
+        bookRepository.findPageBeforeSummaries(cursor, 100L, PageRequest.of(0, 21));
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findSummariesByMemberId() {
+        bookRepository.findSummariesByMemberId(member.getId());
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findSummariesByIdIn() {
+        bookRepository.findSummariesByIdIn(List.of(1L, 2L));
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findAllOrderByCreatedAtDesc() {
+        // 모든 행을 읽지만 idx_book_created_at 순서로 읽어 정렬 단계가 없어야 함
+        bookRepository.findAllOrderByCreatedAtDesc();
+        assertThat(assertNoBookTableScan()).containsIgnoringCase("index sorted");
+    }
+
+    @Test
+    void findAllWithMember() {
+        // 모든 행을 읽지만 idx_book_created_at 순서로 읽고, 등록자는 기본 키로 조인
+        bookRepository.findAllWithMember();
+        assertThat(assertNoBookTableScan()).containsIgnoringCase("index sorted");
+        assertNoMemberTableScan();
+    }
+
+    @Test
+    void streamAllWithMember() {
+        // 내보내기, 전체 목록(/ui/list/all): ORDER BY createdAt DESC, id DESC가 idx_book_created_at과 같은 순서
+        try (Stream<Book> books = bookRepository.streamAllWithMember()) {
+            assertThat(books.count()).isEqualTo(200);
+        }
+        assertThat(assertNoBookTableScan()).containsIgnoringCase("index sorted");
+        assertNoMemberTableScan();
+    }
+
+    @Test
+    void findById() {
+        // JpaRepository 기본 메서드 (기본 키 조회) - 영속성 컨텍스트를 비워야 SQL이 실행됨
+        Long id = bookRepository.findFirstPageSummaries(PageRequest.of(0, 1)).get(0).getId();
+        entityManager.clear();
+        bookRepository.findById(id);
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void updateOwned() {
+        Long id = bookRepository.findFirstPageSummaries(PageRequest.of(0, 1)).get(0).getId();
+        bookRepository.updateOwned(id, member.getId(), 0L,
+                "제목", 10000, "저자", 100, null, LocalDateTime.now());
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void deleteOwned() {
+        Long id = bookRepository.findFirstPageSummaries(PageRequest.of(0, 1)).get(0).getId();
+        bookRepository.deleteOwned(id, member.getId());
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void findOwnership() {
+        bookRepository.findOwnership(1L);
+        assertNoBookTableScan();
+    }
+
+    @Test
+    void streamAll() {
+        // 색인 생성용 전체 읽기: 전체 스캔은 의도된 것이고, 등록자(member)를 조인하지 않아야 함
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            assertThat(books.count()).isEqualTo(200);
+        }
+        assertThat(explainLastBookStatement()).doesNotContainIgnoringCase(" JOIN ");
+    }
+
+    /**
+     * 마지막으로 실행된 book 조회/수정 SQL이 book 테이블을 전체 스캔하지 않는지 확인
+     *
+     * @return 실행 계획 (추가 확인용)
+     */
+    private String assertNoBookTableScan() {
+        String plan = explainLastBookStatement();
+        assertThat(plan)
+                .as("전체 스캔 발생\nPLAN: %s", plan)
+                .doesNotContainIgnoringCase("BOOK.tableScan");
+        return plan;
+    }
+
+    // 등록자 페치 조인이 member 테이블을 전체 스캔하지 않는지 (기본 키로 조인)
+    private void assertNoMemberTableScan() {
+        String plan = explainLastBookStatement();
+        assertThat(plan)
+                .as("member 전체 스캔 발생\nPLAN: %s", plan)
+                .doesNotContainIgnoringCase("MEMBER.tableScan");
+    }
+
+    /**
+     * 마지막으로 실행된 book 조회/수정 SQL을 같은 바인딩 값으로 EXPLAIN
+     */
+    private String explainLastBookStatement() {
+        SqlCapture.Captured statement = SqlCapture.statements().stream()
+                .filter(s -> BOOK_STATEMENT.matcher(s.sql()).find())
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("book SQL이 실행되지 않았습니다."));
+
+        return jdbcTemplate.execute("EXPLAIN " + statement.sql(), (PreparedStatement ps) -> {
+            statement.bindTo(ps);
+            StringBuilder rows = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows.append(rs.getString(1)).append('\n');
+                }
+            }
+            return rows.toString();
+        });
+    }
+}
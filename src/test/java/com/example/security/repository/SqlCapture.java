@@ -0,0 +1,123 @@
+package com.example.security.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행된 SQL과 Hibernate가 실제로 바인딩한 값을 함께 기록 (테스트용)
+ *
+ * DataSource를 프록시로 감싸 PreparedStatement의 setXxx(번호, 값) 호출을 그대로 기록한다.
+ * 실행 계획 테스트는 기록된 값을 같은 setter로 다시 바인딩하므로,
+ * 테스트 코드에 ?의 순서를 적지 않고 리포지토리 메서드에 넘긴 이름 있는 파라미터만으로 검사할 수 있다.
+ * @Import(SqlCapture.class)로 등록한다.
+ */
+public class SqlCapture implements BeanPostProcessor {
+
+    private static final List<Captured> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param sql      실행된 SQL
+     * @param bindings 실행 전에 호출된 setter (호출 순서대로)
+     */
+    public record Captured(String sql, List<Binding> bindings) {
+
+        /**
+         * 같은 값을 다른 PreparedStatement(EXPLAIN 등)에 바인딩
+         */
+        public void bindTo(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                binding.applyTo(statement);
+            }
+        }
+    }
+
+    public record Binding(Method setter, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<Captured> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? capturing(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private static Connection capturing(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement
+                    && method.getName().equals("prepareStatement") && args[0] instanceof String sql) {
+                return capturing(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                STATEMENTS.add(new Captured(sql, List.copyOf(bindings)));
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.security.search;
+
+import com.example.security.dto.Suggestion;
+import com.example.security.entity.Book;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 트라이 테스트 (DB 없이 index/remove만 사용)
+ */
+class BookSuggestIndexTest {
+
+    private final BookSuggestIndex index = new BookSuggestIndex(null, null);
+
+    @Test
+    void matchesPartialHangulSyllablesAndInitials() {
+        index.index(book(1L, "자바의 정석", "남궁성"));
+
+        assertThat(texts(index.suggest("잡", 10))).containsExactly("자바의 정석");   // "자바"를 치는 중
+        assertThat(texts(index.suggest("ㅈㅂ", 10))).containsExactly("자바의 정석");  // 초성
+        assertThat(texts(index.suggest("정석", 10))).containsExactly("자바의 정석");  // 중간 단어
+        assertThat(texts(index.suggest("ㄴㄱ", 10))).containsExactly("남궁성");
+    }
+
+    @Test
+    void ranksByBookCountAndFollowsUpdates() {
+        index.index(book(1L, "Spring Boot", "Craig Walls"));
+        index.index(book(2L, "Spring in Action", "Craig Walls"));
+        index.index(book(3L, "Spring in Action", "Craig Walls"));
+
+        List<Suggestion> result = index.suggest("spr", 10);
+        assertThat(texts(result)).containsExactly("Spring in Action", "Spring Boot");
+        assertThat(result.get(0).getCount()).isEqualTo(2);
+
+        index.index(book(2L, "Kotlin in Action", "Dmitry Jemerov"));   // 수정
+        index.remove(3L);                                              // 삭제
+
+        assertThat(texts(index.suggest("spr", 10))).containsExactly("Spring Boot");
+        assertThat(index.suggest("craig", 10).get(0).getCount()).isEqualTo(1);
+        assertThat(texts(index.suggest("in a", 10))).containsExactly("Kotlin in Action");
+        assertThat(index.suggest("dmi", 10)).hasSize(1);
+    }
+
+    private static Book book(Long id, String title, String author) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        book.setAuthor(author);
+        return book;
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.security.service;
+
+import com.example.security.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 권한/비밀번호 변경 후 로그인 캐시(users)와 회원 캐시(members)가 비워지는지 테스트
+ *
+ * 권한(member_roles)만 바뀌면 @PreUpdate(EntityCacheListener)가 호출되지 않으므로
+ * MemberService가 직접 비우지 않으면 이전 권한이 캐시 만료 때까지 인증에 쓰인다.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-cache;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class MemberCacheEvictionTest {
+
+    private static final String USERNAME = "user";   // DataInitializer가 만든 테스트 계정 (USER 권한)
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void restore() {
+        memberService.changeRoles(USERNAME, Set.of("USER"));
+        memberService.changePassword(USERNAME, "user123");
+    }
+
+    @Test
+    void changeRolesEvictsCachedAuthorities() {
+        assertThat(authorities(userDetailsService.loadUserByUsername(USERNAME))).containsExactly("ROLE_USER");
+        memberService.findByUsername(USERNAME);
+        assertThat(userCache.getUserFromCache(USERNAME)).isNotNull();
+        assertThat(members().get(CacheConfig.userKey(USERNAME))).isNotNull();
+
+        memberService.changeRoles(USERNAME, Set.of("USER", "ADMIN"));
+
+        assertThat(userCache.getUserFromCache(USERNAME)).isNull();
+        assertThat(members().get(CacheConfig.userKey(USERNAME))).isNull();
+        assertThat(authorities(userDetailsService.loadUserByUsername(USERNAME)))
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void changePasswordEvictsCachedCredentials() {
+        userDetailsService.loadUserByUsername(USERNAME);
+        assertThat(userCache.getUserFromCache(USERNAME)).isNotNull();
+
+        memberService.changePassword(USERNAME, "changed123");
+
+        assertThat(userCache.getUserFromCache(USERNAME)).isNull();
+        UserDetails reloaded = userDetailsService.loadUserByUsername(USERNAME);
+        assertThat(passwordEncoder.matches("changed123", reloaded.getPassword())).isTrue();
+    }
+
+    private Cache members() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.MEMBERS));
+    }
+
+    private static Set<String> authorities(UserDetails user) {
+        return user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}